@@ -103,6 +103,19 @@ export default function IncidentMetadata({
               <span>{formatDate(incident.reportedAt)}</span>
             </div>
           </div>
+          {(incident.occurrences ?? 1) > 1 && (
+            <div className="space-y-2">
+              <div className="text-sm font-medium text-muted-foreground">
+                Occurrences
+              </div>
+              <div className="flex items-center gap-2">
+                <Badge variant="outline">×{incident.occurrences}</Badge>
+                {incident.lastSeenAt && (
+                  <span>last seen {formatDate(incident.lastSeenAt)}</span>
+                )}
+              </div>
+            </div>
+          )}
         </div>
       </CardContent>
     </Card>
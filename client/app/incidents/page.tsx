@@ -2,6 +2,7 @@
 
 import dynamic from "next/dynamic";
 import { Suspense } from "react";
+import { Button } from "@/components/ui/button";
 import { Skeleton } from "@/components/ui/skeleton";
 import { useIncidents } from "@/hooks/use-incidents";
 import { handleSort } from "@/lib/handlers/incident-handlers";
@@ -69,6 +70,8 @@ export default function IncidentsPage() {
     setNewIncident,
     handleNewIncidentSubmit,
     handleDeleteIncident,
+    hasMoreIncidents,
+    loadMoreIncidents,
   } = useIncidents();
 
   return (
@@ -160,6 +163,13 @@ export default function IncidentsPage() {
           searchQuery={searchQuery}
           filters={filters}
         />
+        {hasMoreIncidents && (
+          <div className="flex justify-center mt-6">
+            <Button variant="outline" onClick={loadMoreIncidents}>
+              Load more
+            </Button>
+          </div>
+        )}
       </Suspense>
     </div>
   );
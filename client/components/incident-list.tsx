@@ -18,9 +18,10 @@ import { useRouter } from "next/navigation";
 interface Incident {
   id: string;
   title: string;
-  description: string;
+  description?: string;
   severity: "LOW" | "MEDIUM" | "HIGH";
   reportedAt: string;
+  occurrences?: number;
 }
 
 interface IncidentListProps {
@@ -126,7 +127,14 @@ export function IncidentList({
             <TableBody>
               {incidents.map((incident) => (
                 <TableRow key={incident.id}>
-                  <TableCell>{incident.title}</TableCell>
+                  <TableCell>
+                    {incident.title}
+                    {(incident.occurrences ?? 1) > 1 && (
+                      <Badge variant="outline" className="ml-2">
+                        ×{incident.occurrences}
+                      </Badge>
+                    )}
+                  </TableCell>
                   <TableCell>
                     <Badge variant={getSeverityColor(incident.severity)}>
                       {incident.severity}
@@ -1,7 +1,13 @@
-import { useState, useEffect, useMemo } from "react";
-import { Incident } from "@/types/incident";
-import { fetchIncidents, createIncident, deleteIncident } from "@/lib/api";
-import { filterIncidents, sortIncidents } from "@/lib/utils/incident-utils";
+import { useState, useEffect, useMemo, useCallback, useRef } from "react";
+import { Incident, IncidentQuery } from "@/types/incident";
+import {
+  fetchIncidents,
+  searchIncidents,
+  createIncident,
+  deleteIncident,
+  subscribeToIncidents,
+} from "@/lib/api";
+import { sortIncidents } from "@/lib/utils/incident-utils";
 import { toast } from "sonner";
 
 export function useIncidents() {
@@ -16,6 +22,7 @@ export function useIncidents() {
     startDate: "",
     endDate: "",
   });
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [error, setError] = useState<string | null>(null);
   const [showNewIncidentForm, setShowNewIncidentForm] = useState(false);
   const [newIncident, setNewIncident] = useState({
@@ -23,19 +30,36 @@ export function useIncidents() {
     description: "",
     severity: "LOW" as "LOW" | "MEDIUM" | "HIGH",
   });
-
+  // Idempotency key of the form's current content, kept until it is created
+  const submitKey = useRef<string | null>(null);
   useEffect(() => {
-    loadIncidents();
-  }, []);
+    submitKey.current = null;
+  }, [newIncident]);
 
-  const loadIncidents = async () => {
+  const buildQuery = useCallback(
+    (cursor: string | null): IncidentQuery => ({
+      severity: filters.severity === "all" ? undefined : filters.severity,
+      from: filters.startDate ? `${filters.startDate}T00:00:00` : undefined,
+      to: filters.endDate ? `${filters.endDate}T23:59:59.999` : undefined,
+      q: searchQuery.trim() || undefined,
+      cursor,
+    }),
+    [filters, searchQuery]
+  );
+
+  const fetchPage = useCallback(
+    (cursor: string | null) => {
+      const query = buildQuery(cursor);
+      return query.q ? searchIncidents(query) : fetchIncidents(query);
+    },
+    [buildQuery]
+  );
+
+  const loadIncidents = useCallback(async () => {
     try {
-      const data = await fetchIncidents();
-      const sortedData = data.toSorted(
-        (a, b) =>
-          new Date(b.reportedAt).getTime() - new Date(a.reportedAt).getTime()
-      );
-      setIncidents(sortedData);
+      const page = await fetchPage(null);
+      setIncidents(page.items);
+      setNextCursor(page.nextCursor);
       setError(null);
     } catch (error) {
       console.error("Error fetching incidents:", error);
@@ -43,29 +67,99 @@ export function useIncidents() {
         error instanceof Error ? error.message : "Failed to fetch incidents"
       );
       setIncidents([]);
+      setNextCursor(null);
+    }
+  }, [fetchPage]);
+
+  const loadMoreIncidents = async () => {
+    if (!nextCursor) return;
+    try {
+      const page = await fetchPage(nextCursor);
+      setIncidents((prevIncidents) => [...prevIncidents, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error("Error fetching incidents:", error);
+      setError(
+        error instanceof Error ? error.message : "Failed to fetch incidents"
+      );
     }
   };
 
-  const filteredIncidents = useMemo(() => {
-    return filterIncidents(incidents, searchQuery, filters);
-  }, [incidents, searchQuery, filters]);
+  useEffect(() => {
+    loadIncidents();
+  }, [loadIncidents]);
+
+  // Live updates cannot be ranked into search results, so they only apply
+  // to the plain listing
+  const matchesView = useCallback(
+    (incident: Incident) => {
+      const query = buildQuery(null);
+      return (
+        !query.q &&
+        (!query.severity || incident.severity === query.severity) &&
+        (!query.from || incident.reportedAt >= query.from) &&
+        (!query.to || incident.reportedAt <= query.to)
+      );
+    },
+    [buildQuery]
+  );
+
+  const addIncident = useCallback((incident: Incident) => {
+    setIncidents((prevIncidents) =>
+      prevIncidents.some((existing) => existing.id === incident.id)
+        ? prevIncidents
+        : [incident, ...prevIncidents]
+    );
+  }, []);
+
+  const latest = useRef({ matchesView, loadIncidents });
+  latest.current = { matchesView, loadIncidents };
+
+  useEffect(() => {
+    const severity = filters.severity === "all" ? undefined : filters.severity;
+    return subscribeToIncidents(
+      severity,
+      (event) => {
+        if (event.type === "CREATED") {
+          if (latest.current.matchesView(event.incident)) {
+            addIncident(event.incident);
+          }
+        } else {
+          setIncidents((prevIncidents) =>
+            prevIncidents.filter((incident) => incident.id !== event.id)
+          );
+        }
+      },
+      () => {
+        latest.current.loadIncidents();
+      }
+    );
+  }, [filters.severity, addIncident]);
 
   const sortedIncidents = useMemo(() => {
-    return sortIncidents(filteredIncidents, sortConfig);
-  }, [filteredIncidents, sortConfig]);
+    return sortIncidents(incidents, sortConfig);
+  }, [incidents, sortConfig]);
 
   const handleNewIncidentSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
     try {
       setError(null);
-      await createIncident({
+      const incident = {
         title: newIncident.title,
         description: newIncident.description,
         severity: newIncident.severity,
         reportedAt: new Date().toISOString(),
-      });
+      };
+      // A resubmit after a failed attempt reuses the key, so it cannot create a duplicate
+      submitKey.current ??= crypto.randomUUID();
+      const id = await createIncident(incident, submitKey.current);
+      submitKey.current = null;
 
-      await loadIncidents();
+      // The stream delivers the stored incident too; addIncident keeps one copy
+      const created = { ...incident, id };
+      if (matchesView(created)) {
+        addIncident(created);
+      }
 
       toast.success("Incident created successfully", {
         description: `"${newIncident.title}" has been created.`,
@@ -125,5 +219,7 @@ export function useIncidents() {
     setNewIncident,
     handleNewIncidentSubmit,
     handleDeleteIncident,
+    hasMoreIncidents: nextCursor !== null,
+    loadMoreIncidents,
   };
 }
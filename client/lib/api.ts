@@ -1,26 +1,61 @@
-import { Incident, ApiResponse } from "@/types/incident";
+import {
+  Incident,
+  ApiResponse,
+  IncidentPage,
+  IncidentQuery,
+  IncidentEvent,
+} from "@/types/incident";
 
 const API_BASE_URL =  "http://localhost:8080/api/v1";
 
-export async function fetchIncidents(): Promise<Incident[]> {
-  const response = await fetch(`${API_BASE_URL}/incidents`);
+// The list view shows no descriptions; the detail page fetches the full incident
+const LIST_FIELDS = "summary,occurrences";
+
+export async function fetchIncidents(
+  query: IncidentQuery = {}
+): Promise<IncidentPage> {
+  return fetchIncidentPage("/incidents", { fields: LIST_FIELDS, ...query });
+}
+
+export async function searchIncidents(
+  query: IncidentQuery
+): Promise<IncidentPage> {
+  return fetchIncidentPage("/incidents/search", query);
+}
+
+async function fetchIncidentPage(
+  path: string,
+  query: IncidentQuery
+): Promise<IncidentPage> {
+  const params = new URLSearchParams();
+  Object.entries(query).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== "") {
+      params.set(key, String(value));
+    }
+  });
+  const search = params.toString();
+  const response = await fetch(
+    `${API_BASE_URL}${path}${search ? `?${search}` : ""}`
+  );
   if (!response.ok) {
     throw new Error(`HTTP error! status: ${response.status}`);
   }
-  const data: ApiResponse<Incident[]> = await response.json();
-  if (data.success && Array.isArray(data.data)) {
+  const data: ApiResponse<IncidentPage> = await response.json();
+  if (data.success && data.data && Array.isArray(data.data.items)) {
     return data.data;
   }
   throw new Error("Invalid data format received from server");
 }
 
 export async function createIncident(
-  incident: Partial<Incident>
-): Promise<Incident> {
+  incident: Partial<Incident>,
+  idempotencyKey: string = crypto.randomUUID()
+): Promise<string> {
   const response = await fetch(`${API_BASE_URL}/incidents`, {
     method: "POST",
     headers: {
       "Content-Type": "application/json",
+      "Idempotency-Key": idempotencyKey,
     },
     body: JSON.stringify(incident),
   });
@@ -29,7 +64,7 @@ export async function createIncident(
     throw new Error("Failed to create incident");
   }
 
-  const data: ApiResponse<Incident> = await response.json();
+  const data: ApiResponse<string> = await response.json();
   if (data.success && data.data) {
     return data.data;
   }
@@ -51,6 +86,21 @@ export async function deleteIncident(id: string): Promise<void> {
   }
 }
 
+export function subscribeToIncidents(
+  severity: string | undefined,
+  onEvent: (event: IncidentEvent) => void,
+  onReset: () => void
+): () => void {
+  const search = severity ? `?severity=${encodeURIComponent(severity)}` : "";
+  const source = new EventSource(`${API_BASE_URL}/incidents/stream${search}`);
+  const handleEvent = (message: MessageEvent<string>) =>
+    onEvent(JSON.parse(message.data));
+  source.addEventListener("created", handleEvent);
+  source.addEventListener("deleted", handleEvent);
+  source.addEventListener("reset", onReset);
+  return () => source.close();
+}
+
 export async function fetchIncident(id: string): Promise<Incident> {
   const response = await fetch(`${API_BASE_URL}/incidents/${id}`);
   if (!response.ok) {
@@ -12,8 +12,8 @@ export const handleSubmit = async (
 ) => {
   e.preventDefault();
   try {
-    const data = await createIncident(newIncident);
-    setIncidents([...incidents, data]);
+    const id = await createIncident(newIncident);
+    setIncidents([...incidents, { ...newIncident, id } as Incident]);
     setShowNewIncidentForm(false);
     setNewIncident({ title: "", description: "", severity: "LOW" });
     setError(null);
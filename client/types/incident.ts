@@ -1,11 +1,35 @@
 export interface Incident {
   readonly id: string;
   readonly title: string;
-  readonly description: string;
+  // Left out of listings fetched with a sparse fieldset
+  readonly description?: string;
   readonly severity: "LOW" | "MEDIUM" | "HIGH";
   readonly reportedAt: string;
+  readonly occurrences?: number;
+  readonly lastSeenAt?: string;
 }
 
+export interface IncidentPage {
+  readonly items: Incident[];
+  readonly nextCursor: string | null;
+  readonly hasMore: boolean;
+}
+
+export interface IncidentQuery {
+  readonly severity?: string;
+  readonly from?: string;
+  readonly to?: string;
+  readonly title?: string;
+  readonly q?: string;
+  readonly cursor?: string | null;
+  readonly limit?: number;
+  readonly fields?: string;
+}
+
+export type IncidentEvent =
+  | { readonly type: "CREATED"; readonly id: string; readonly incident: Incident }
+  | { readonly type: "DELETED"; readonly id: string; readonly incident: null };
+
 export interface ApiResponse<T> {
   readonly success: boolean;
   readonly message: string;
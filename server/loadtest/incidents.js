@@ -0,0 +1,69 @@
+// k6 load test for the incident API.
+//
+// Mixes listing, detail reads and creates. Run it once per threading mode
+// against the same MongoDB and compare throughput and latency:
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1 -e VUS=400 loadtest/incidents.js
+//
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/api/v1";
+const VUS = parseInt(__ENV.VUS || "200", 10);
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: "constant-vus",
+      vus: VUS,
+      duration: __ENV.DURATION || "2m",
+    },
+  },
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"],
+};
+
+const severities = ["LOW", "MEDIUM", "HIGH"];
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < 100; i++) {
+    const res = http.post(
+      `${BASE_URL}/incidents`,
+      JSON.stringify({
+        title: `Load test seed ${i}`,
+        description: "Seed incident for detail reads",
+        severity: severities[i % severities.length],
+      }),
+      { headers: { "Content-Type": "application/json" } }
+    );
+    ids.push(res.json("data"));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const roll = Math.random();
+  if (roll < 0.6) {
+    const res = http.get(`${BASE_URL}/incidents?limit=50`, {
+      tags: { name: "list" },
+    });
+    check(res, { "list 200": (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/incidents/${id}`, {
+      tags: { name: "detail" },
+    });
+    check(res, { "detail 200": (r) => r.status === 200 });
+  } else {
+    const res = http.post(
+      `${BASE_URL}/incidents`,
+      JSON.stringify({
+        title: "Load test incident",
+        description: "Created by the k6 load test",
+        severity: severities[Math.floor(Math.random() * severities.length)],
+      }),
+      { headers: { "Content-Type": "application/json" }, tags: { name: "create" } }
+    );
+    check(res, { "create 2xx": (r) => r.status === 201 || r.status === 202 });
+  }
+}
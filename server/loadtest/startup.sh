@@ -0,0 +1,34 @@
+#!/bin/sh
+# Startup benchmark: time to first request and resident memory of one start.
+#
+# Starts the server with the given command, polls the health endpoint until
+# it answers 200, then reports the elapsed time and the RSS of the process.
+# Run it several times per variant against the same MongoDB and compare the
+# medians, e.g.:
+#
+#   loadtest/startup.sh java -jar target/logs-0.0.1-SNAPSHOT.jar
+#   loadtest/startup.sh java -Dspring.aot.enabled=true -jar target/logs-0.0.1-SNAPSHOT.jar
+#   (cd application && ../loadtest/startup.sh java -XX:SharedArchiveFile=application.jsa -jar logs-0.0.1-SNAPSHOT.jar)
+#   loadtest/startup.sh target/logs
+#
+# Linux only (reads /proc). Set PORT to use another port than 8080.
+
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/api/v1/health"
+
+start=$(date +%s%N)
+"$@" --server.port="${PORT}" > startup.log 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null' EXIT
+
+until [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL")" = "200" ]; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "server exited, see startup.log" >&2
+    exit 1
+  fi
+  sleep 0.02
+done
+end=$(date +%s%N)
+
+rss=$(awk '/^VmRSS/ { print $2 }' "/proc/${pid}/status")
+echo "time to first request: $(( (end - start) / 1000000 )) ms, RSS: $(( rss / 1024 )) MB"
@@ -0,0 +1,63 @@
+package com.humanchain.logs.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures a full listing response: mapping entities to DTOs, wrapping them
+ * in the {@link ApiResponse} envelope and writing JSON, at several sizes.
+ * Output is discarded so that only mapping and serialization are measured.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    private ObjectWriter writer;
+    private List<AIIncident> incidents;
+    private ApiResponse<List<AIIncidentDTO>> response;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkData.objectMapper()
+                .writerFor(new TypeReference<ApiResponse<List<AIIncidentDTO>>>() {
+                });
+        incidents = BenchmarkData.incidents(size);
+        response = wrap(incidents);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), wrap(incidents));
+    }
+
+    private static ApiResponse<List<AIIncidentDTO>> wrap(List<AIIncident> incidents) {
+        List<AIIncidentDTO> dtos = incidents.stream()
+                .map(AIIncidentDTO::fromEntity)
+                .collect(Collectors.toList());
+        return ApiResponse.success(dtos, "Successfully retrieved incidents");
+    }
+}
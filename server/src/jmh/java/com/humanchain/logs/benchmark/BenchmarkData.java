@@ -0,0 +1,103 @@
+package com.humanchain.logs.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.humanchain.logs.model.AIIncident;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared fixtures for the benchmarks.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+final class BenchmarkData {
+
+    private static final AIIncident.Severity[] SEVERITIES = AIIncident.Severity.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds an ObjectMapper configured like the one Spring Boot provides to
+     * the application
+     *
+     * @return Configured ObjectMapper
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * Builds an ObjectMapper for one of the wire formats the application
+     * negotiates, configured like the JSON one
+     *
+     * @param format The format: json, cbor or smile
+     * @return Configured ObjectMapper
+     */
+    static ObjectMapper objectMapper(String format) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        switch (format) {
+            case "json":
+                return builder.build();
+            case "cbor":
+                return builder.factory(new CBORFactory()).build();
+            case "smile":
+                return builder.factory(new SmileFactory()).build();
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+    }
+
+    /**
+     * Builds a MongoConverter configured like the one Spring Boot provides to
+     * the application, without a database
+     *
+     * @return Configured MappingMongoConverter
+     */
+    static MappingMongoConverter mongoConverter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    /**
+     * Creates incidents with realistic field sizes
+     *
+     * @param count Number of incidents to create
+     * @return List of incidents
+     */
+    static List<AIIncident> incidents(int count) {
+        List<AIIncident> incidents = new ArrayList<>(count);
+        LocalDateTime reportedAt = LocalDateTime.of(2025, 4, 27, 6, 4, 19, 212_000_000);
+        for (int i = 0; i < count; i++) {
+            incidents.add(new AIIncident(
+                    new ObjectId(),
+                    "AI Model Performance Degradation #" + i,
+                    "The sentiment analysis model is showing decreased accuracy in processing customer feedback, "
+                            + "with misclassification rates rising steadily over the last monitoring window.",
+                    SEVERITIES[i % SEVERITIES.length],
+                    reportedAt.minusSeconds(i)));
+        }
+        return incidents;
+    }
+}
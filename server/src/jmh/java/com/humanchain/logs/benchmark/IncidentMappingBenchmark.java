@@ -0,0 +1,49 @@
+package com.humanchain.logs.benchmark;
+
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.model.AIIncident;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures entity to DTO mapping as done for every listing row.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IncidentMappingBenchmark {
+
+    private AIIncident incident;
+    private List<AIIncident> incidents;
+
+    @Setup
+    public void setUp() {
+        incidents = BenchmarkData.incidents(1_000);
+        incident = incidents.get(0);
+    }
+
+    @Benchmark
+    public AIIncidentDTO fromEntity() {
+        return AIIncidentDTO.fromEntity(incident);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1_000)
+    public List<AIIncidentDTO> fromEntityList() {
+        return incidents.stream()
+                .map(AIIncidentDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void objectIdToHexString(Blackhole blackhole) {
+        blackhole.consume(incident.getId().toHexString());
+    }
+}
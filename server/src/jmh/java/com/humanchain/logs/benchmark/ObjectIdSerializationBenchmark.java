@@ -0,0 +1,46 @@
+package com.humanchain.logs.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humanchain.logs.model.AIIncident;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link com.humanchain.logs.serializer.ObjectIdSerializer} and
+ * {@link com.humanchain.logs.serializer.ObjectIdDeserializer} through the
+ * entity that declares them.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ObjectIdSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private AIIncident incident;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        writer = BenchmarkData.objectMapper().writerFor(AIIncident.class);
+        reader = BenchmarkData.objectMapper().readerFor(AIIncident.class);
+        incident = BenchmarkData.incidents(1).get(0);
+        json = writer.writeValueAsBytes(incident);
+    }
+
+    @Benchmark
+    public byte[] serializeEntity() throws IOException {
+        return writer.writeValueAsBytes(incident);
+    }
+
+    @Benchmark
+    public AIIncident deserializeEntity() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,105 @@
+package com.humanchain.logs.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.dto.RawIncidentPageDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentPage;
+import org.bson.BsonBinaryReader;
+import org.bson.ByteBuf;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways a listing page is served, starting from the BSON
+ * bytes of its documents as the driver reads them off the wire: decoding
+ * to Documents, mapping them to entities and DTOs and serializing those,
+ * against keeping RawBsonDocuments and writing JSON straight from their
+ * bytes. rawBsonWriteOnly writes already decoded documents, isolating the
+ * serializer. Run with -prof gc, whose gc.alloc.rate.norm is the allocation
+ * per page.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RawListingBenchmark {
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    @Param({ "50", "500" })
+    public int size;
+
+    private ObjectWriter writer;
+    private MappingMongoConverter converter;
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final RawBsonDocumentCodec rawCodec = new RawBsonDocumentCodec();
+    private List<byte[]> documents;
+    private List<RawBsonDocument> decoded;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkData.objectMapper()
+                .writerFor(new TypeReference<ApiResponse<IncidentPageDTO<?>>>() {
+                });
+        converter = BenchmarkData.mongoConverter();
+        documents = new ArrayList<>(size);
+        for (AIIncident incident : BenchmarkData.incidents(size)) {
+            Document document = new Document();
+            converter.write(incident, document);
+            ByteBuf buffer = new RawBsonDocument(document, documentCodec).getByteBuffer();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            documents.add(bytes);
+        }
+        decoded = new ArrayList<>(size);
+        for (byte[] bytes : documents) {
+            decoded.add(new RawBsonDocument(bytes));
+        }
+    }
+
+    @Benchmark
+    public void entities() throws IOException {
+        List<AIIncident> incidents = new ArrayList<>(size);
+        for (byte[] bytes : documents) {
+            Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DECODER_CONTEXT);
+            incidents.add(converter.read(AIIncident.class, document));
+        }
+        writer.writeValue(OutputStream.nullOutputStream(), ApiResponse.success(
+                IncidentPageDTO.fromPage(new IncidentPage(incidents, null)), "Successfully retrieved incidents"));
+    }
+
+    @Benchmark
+    public void rawBson() throws IOException {
+        List<RawBsonDocument> incidents = new ArrayList<>(size);
+        for (byte[] bytes : documents) {
+            incidents.add(rawCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DECODER_CONTEXT));
+        }
+        writer.writeValue(OutputStream.nullOutputStream(), ApiResponse.success(
+                new RawIncidentPageDTO(incidents, null, false), "Successfully retrieved incidents"));
+    }
+
+    @Benchmark
+    public void rawBsonWriteOnly() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), ApiResponse.success(
+                new RawIncidentPageDTO(decoded, null, false), "Successfully retrieved incidents"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.humanchain.logs.benchmark;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.validation.AIIncidentValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AIIncidentValidator#validate(AIIncidentCreateDTO)}
+ * throughput for accepted and rejected input.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private AIIncidentValidator validator;
+    private AIIncidentCreateDTO valid;
+    private AIIncidentCreateDTO missingSeverity;
+
+    @Setup
+    public void setUp() {
+        validator = new AIIncidentValidator(new SimpleMeterRegistry());
+        valid = new AIIncidentCreateDTO("AI Model Misbehaving",
+                "Generated unsafe content without prompt.", AIIncident.Severity.HIGH);
+        missingSeverity = new AIIncidentCreateDTO("AI Model Misbehaving",
+                "Generated unsafe content without prompt.", null);
+    }
+
+    @Benchmark
+    public AIIncidentValidator.ValidationResult validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public AIIncidentValidator.ValidationResult validateInvalid() {
+        return validator.validate(missingSeverity);
+    }
+}
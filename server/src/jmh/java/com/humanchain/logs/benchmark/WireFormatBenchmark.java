@@ -0,0 +1,86 @@
+package com.humanchain.logs.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentPage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the wire formats of a listing page: JSON, CBOR and Smile, each
+ * with and without gzip as applied by the server above its compression
+ * threshold, for complete incidents and for the sparse fieldsets of the
+ * fields parameter. The time is the serialization (and compression) CPU per
+ * page, and the bytesOnWire counter is the size of the resulting body.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class WireFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    @Param({ "false", "true" })
+    public boolean gzip;
+
+    @Param({ "50", "500" })
+    public int size;
+
+    /**
+     * Value of the fields parameter, "all" for complete incidents
+     */
+    @Param({ "all", "summary", "summary,preview" })
+    public String fields;
+
+    private ObjectWriter writer;
+    private ApiResponse<IncidentPageDTO<?>> response;
+
+    /**
+     * Size of the last serialized body, reported next to the timing
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Body {
+        public long bytesOnWire;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+    }
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkData.objectMapper(format)
+                .writerFor(new TypeReference<ApiResponse<IncidentPageDTO<?>>>() {
+                });
+        IncidentFields fieldset = "all".equals(fields) ? null : IncidentFields.parse(fields).withPreviewLength(160);
+        response = ApiResponse.success(
+                IncidentPageDTO.fromSparsePage(new IncidentPage(BenchmarkData.incidents(size), null, fieldset)),
+                "Successfully retrieved incidents");
+    }
+
+    @Benchmark
+    public void serialize(Body body) throws IOException {
+        body.buffer.reset();
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(body.buffer)) {
+                writer.writeValue(out, response);
+            }
+        } else {
+            writer.writeValue(body.buffer, response);
+        }
+        body.bytesOnWire = body.buffer.size();
+    }
+}
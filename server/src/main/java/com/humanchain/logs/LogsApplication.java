@@ -1,9 +1,12 @@
 package com.humanchain.logs;
 
+import com.humanchain.logs.config.LogsRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(LogsRuntimeHints.class)
 public class LogsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,133 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.model.AIIncident;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuration class that enforces the retention period of incidents per
+ * severity. Each severity with a retention gets a TTL index on reportedAt,
+ * restricted to that severity by a partial filter, and MongoDB's TTL
+ * monitor deletes its incidents once they are older than the retention.
+ * The indexes are reconciled with incidents.retention.* on startup:
+ * missing ones are created, changed periods are applied in place and
+ * indexes of severities kept forever are dropped. Partial TTL indexes on
+ * the same key need MongoDB 5.0 or later.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Configuration
+public class IncidentRetentionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentRetentionConfig.class);
+
+    private static final String INDEX_PREFIX = "ttl_reportedAt_";
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<AIIncident.Severity, Duration> retention = new EnumMap<>(AIIncident.Severity.class);
+
+    @Value("${incidents.indexes.ensure-on-startup:true}")
+    private boolean ensureOnStartup;
+
+    /**
+     * Constructs a new IncidentRetentionConfig
+     *
+     * @param mongoTemplate The MongoTemplate used to manage indexes
+     * @param low           Retention of LOW incidents, zero to keep them forever
+     * @param medium        Retention of MEDIUM incidents, zero to keep them forever
+     * @param high          Retention of HIGH incidents, zero to keep them forever
+     */
+    public IncidentRetentionConfig(MongoTemplate mongoTemplate,
+                                   @Value("${incidents.retention.low:0}") Duration low,
+                                   @Value("${incidents.retention.medium:0}") Duration medium,
+                                   @Value("${incidents.retention.high:0}") Duration high) {
+        this.mongoTemplate = mongoTemplate;
+        retention.put(AIIncident.Severity.LOW, low);
+        retention.put(AIIncident.Severity.MEDIUM, medium);
+        retention.put(AIIncident.Severity.HIGH, high);
+    }
+
+    /**
+     * Reconciles the TTL indexes once the declared indexes have been ensured
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER + 1)
+    public void applyOnStartup() {
+        if (!ensureOnStartup) {
+            return;
+        }
+        apply();
+    }
+
+    /**
+     * Creates, updates or drops the TTL index of every severity so that it
+     * matches the configured retention
+     */
+    public void apply() {
+        IndexOperations indexOps = mongoTemplate.indexOps(AIIncident.class);
+        Map<String, IndexInfo> existing = new HashMap<>();
+        for (IndexInfo info : indexOps.getIndexInfo()) {
+            existing.put(info.getName(), info);
+        }
+
+        retention.forEach((severity, period) -> {
+            String name = indexName(severity);
+            IndexInfo current = existing.get(name);
+            boolean keepForever = period == null || period.isZero() || period.isNegative();
+
+            if (keepForever) {
+                if (current != null) {
+                    indexOps.dropIndex(name);
+                    logger.info("Dropped retention of {} incidents, they are now kept forever", severity);
+                }
+                return;
+            }
+
+            if (current == null) {
+                indexOps.ensureIndex(new Index()
+                        .on("reportedAt", Sort.Direction.ASC)
+                        .named(name)
+                        .expire(period)
+                        .partial(PartialIndexFilter.of(Criteria.where("severity").is(severity.name()))));
+                logger.info("Created retention of {} for {} incidents", period, severity);
+            } else if (!current.getExpireAfter().equals(Optional.of(period.truncatedTo(ChronoUnit.SECONDS)))) {
+                mongoTemplate.executeCommand(new Document("collMod", mongoTemplate.getCollectionName(AIIncident.class))
+                        .append("index", new Document("name", name)
+                                .append("expireAfterSeconds", period.toSeconds())));
+                logger.info("Changed retention of {} incidents to {}", severity, period);
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the TTL index of a severity
+     *
+     * @param severity The severity the index applies to
+     * @return Index name, e.g. ttl_reportedAt_low
+     */
+    static String indexName(AIIncident.Severity severity) {
+        return INDEX_PREFIX + severity.name().toLowerCase(Locale.ROOT);
+    }
+}
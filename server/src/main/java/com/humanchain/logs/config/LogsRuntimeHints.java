@@ -0,0 +1,66 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.dto.AIIncidentSummaryDTO;
+import com.humanchain.logs.dto.IncidentBatchResultDTO;
+import com.humanchain.logs.dto.IncidentDeleteResultDTO;
+import com.humanchain.logs.dto.IncidentEventDTO;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.dto.IncidentPurgeJobDTO;
+import com.humanchain.logs.dto.IncidentStatsDTO;
+import com.humanchain.logs.dto.RawIncidentPageDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.serializer.ObjectIdDeserializer;
+import com.humanchain.logs.serializer.ObjectIdSerializer;
+import com.humanchain.logs.serializer.RawIncidentPageSerializer;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection hints for running the application ahead-of-time processed or
+ * as a GraalVM native image. Spring derives hints for the bodies it sees in
+ * controller signatures and for the entities of repositories, but not for
+ * what Jackson and the MongoDB converter reach otherwise: the serializers
+ * named in {@code @JsonSerialize(using = ...)}, the items behind the
+ * wildcard of listing pages, the DTOs the services write to SSE and NDJSON
+ * streams, and aggregation results. Registering the classes for binding
+ * covers the constructors, getters and setters Lombok generates for them.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public class LogsRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] SERIALIZERS = {
+            ObjectIdSerializer.class, ObjectIdDeserializer.class, RawIncidentPageSerializer.class
+    };
+
+    private static final Class<?>[] BOUND_TYPES = {
+            ApiResponse.class, AIIncident.class, AIIncidentDTO.class, AIIncidentSummaryDTO.class,
+            AIIncidentCreateDTO.class, IncidentPageDTO.class, RawIncidentPageDTO.class, IncidentEventDTO.class,
+            IncidentStatsDTO.class, IncidentBatchResultDTO.class, IncidentDeleteResultDTO.class,
+            IncidentPurgeJobDTO.class, IncidentSearchHit.class, IncidentStatsBucket.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    /**
+     * Registers the hints
+     *
+     * @param hints       The hints to contribute to
+     * @param classLoader The class loader of the application
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> serializer : SERIALIZERS) {
+            hints.reflection().registerType(serializer, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        bindingRegistrar.registerReflectionHints(hints.reflection(), BOUND_TYPES);
+    }
+}
@@ -0,0 +1,191 @@
+package com.humanchain.logs.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typed configuration of the MongoDB client, bound from the mongodb.*
+ * properties. Options given in the connection URI take precedence over
+ * the client settings.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "mongodb")
+public class MongoClientProperties {
+    /**
+     * Connection pool settings
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * Time allowed to open a connection
+     */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Time allowed for a read on a connection, zero for no limit
+     */
+    private Duration socketTimeout = Duration.ZERO;
+
+    /**
+     * Time allowed to find a server for an operation
+     */
+    private Duration serverSelectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Wire compressors offered to the server in order of preference: zstd,
+     * snappy or zlib. zstd and snappy need their library on the classpath.
+     */
+    private List<String> compressors = new ArrayList<>();
+
+    /**
+     * Read preference of the listing, search and statistics queries, which
+     * tolerate slightly stale results, such as secondaryPreferred. All
+     * other reads go to the primary.
+     */
+    private String listingReadPreference = "primary";
+
+    /**
+     * How far a secondary may lag behind the primary to serve listing
+     * queries, at least 90 seconds, or zero for no bound. Ignored for the
+     * primary read preference.
+     */
+    private Duration listingMaxStaleness = Duration.ZERO;
+
+    /**
+     * Write concern per operation class
+     */
+    private WriteConcerns writeConcern = new WriteConcerns();
+
+    /**
+     * Connection attempts at startup
+     */
+    private Startup startup = new Startup();
+
+    /**
+     * Connection pool settings
+     */
+    @Data
+    public static class Pool {
+        /**
+         * Connections kept open even when idle
+         */
+        private int minSize = 0;
+
+        /**
+         * Maximum number of open connections
+         */
+        private int maxSize = 100;
+
+        /**
+         * Maximum number of connections being opened at the same time
+         */
+        private int maxConnecting = 2;
+
+        /**
+         * Time an operation waits for a free connection
+         */
+        private Duration maxWait = Duration.ofMinutes(2);
+
+        /**
+         * Time after which an idle connection is closed, zero for no limit
+         */
+        private Duration maxIdleTime = Duration.ZERO;
+    }
+
+    /**
+     * Write concerns, such as majority, w1 or a number of nodes. Operation
+     * classes without a write concern use the one of the client.
+     */
+    @Data
+    public static class WriteConcerns {
+        /**
+         * Write concern of the client, empty for the driver default
+         */
+        private String client;
+
+        /**
+         * Write concern of single incident inserts and saves
+         */
+        private String insert;
+
+        /**
+         * Write concern of batch inserts and other bulk writes
+         */
+        private String bulk;
+
+        /**
+         * Write concern of deletes
+         */
+        private String delete;
+    }
+
+    /**
+     * Connection attempts at startup, retried with exponential backoff
+     */
+    @Data
+    public static class Startup {
+        /**
+         * Delay before the first retry
+         */
+        private Duration retryInterval = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound of the delay between retries
+         */
+        private Duration maxRetryInterval = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Parses a read preference name
+     *
+     * @param name         The read preference name, such as secondaryPreferred
+     * @param maxStaleness Maximum replication lag of a selected secondary,
+     *                     zero or null for no bound
+     * @return ReadPreference, primary if the name is empty
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static ReadPreference toReadPreference(String name, Duration maxStaleness) {
+        if (!StringUtils.hasText(name)) {
+            return ReadPreference.primary();
+        }
+        ReadPreference readPreference = ReadPreference.valueOf(name.trim());
+        if (maxStaleness == null || maxStaleness.isZero() || readPreference.equals(ReadPreference.primary())) {
+            return readPreference;
+        }
+        return ReadPreference.valueOf(name.trim(), List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Parses a write concern, given as a name such as majority or w1, or as
+     * the number of nodes to acknowledge writes
+     *
+     * @param value The write concern
+     * @return WriteConcern, or null if the value is empty
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static WriteConcern toWriteConcern(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            return new WriteConcern(Integer.parseInt(trimmed));
+        }
+        WriteConcern writeConcern = WriteConcern.valueOf(trimmed);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown write concern: " + value);
+        }
+        return writeConcern;
+    }
+}
@@ -1,60 +1,237 @@
 package com.humanchain.logs.config;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
 import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration class for MongoDB connection and setup.
- * Handles the creation of MongoDB client and template beans.
+ * Handles the creation of MongoDB client and template beans. The client
+ * connects lazily, so startup does not depend on MongoDB being reachable;
+ * the node only becomes ready once it is.
  *
  * @author Vikas Singh
  * @since 1.0
  */
 @Configuration
+@EnableConfigurationProperties(MongoClientProperties.class)
 public class MongoDBConfig {
 
+    /**
+     * Name of the MongoTemplate bean for listing, search and statistics queries
+     */
+    public static final String LISTING_TEMPLATE = "listingMongoTemplate";
+
     private static final Logger logger = LoggerFactory.getLogger(MongoDBConfig.class);
 
     @Value("${spring.data.mongodb.uri}")
     private String mongoUri;
 
+    private final MongoClientProperties properties;
+
+    /**
+     * Constructs a new MongoDBConfig
+     *
+     * @param properties The mongodb.* client properties
+     */
+    public MongoDBConfig(MongoClientProperties properties) {
+        this.properties = properties;
+    }
+
     /**
-     * Creates and configures a MongoDB client
+     * Creates and configures a MongoDB client from the mongodb.* properties.
+     * Options given in the connection URI take precedence over them.
+     * Settings customizers are applied like for the client Spring Boot
+     * would create, which registers the Micrometer command and connection
+     * pool listeners.
      *
+     * @param customizers Customizers of the client settings, such as the
+     *                    metrics listeners
      * @return Configured MongoClient instance
-     * @throws MongoException if connection to MongoDB fails
      */
     @Bean
-    public MongoClient mongoClient() {
-        try {
-            MongoClient client = MongoClients.create(mongoUri);
-            // Test the connection
-            client.listDatabaseNames().first();
-            logger.info("MongoDB connected successfully!");
-            return client;
-        } catch (MongoException e) {
-            logger.error("MongoDB failed to connect due to - {}", e.getMessage());
-            logger.error("Exiting...");
-            System.exit(1);
-            return null;
+    public MongoClient mongoClient(ObjectProvider<MongoClientSettingsBuilderCustomizer> customizers) {
+        MongoClientProperties.Pool pool = properties.getPool();
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                .applyToConnectionPoolSettings(settings -> settings
+                        .minSize(pool.getMinSize())
+                        .maxSize(pool.getMaxSize())
+                        .maxConnecting(pool.getMaxConnecting())
+                        .maxWaitTime(pool.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(pool.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS))
+                .applyToSocketSettings(settings -> settings
+                        .connectTimeout((int) properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout((int) properties.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(settings -> settings
+                        .serverSelectionTimeout(properties.getServerSelectionTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                .compressorList(compressors(properties.getCompressors()));
+        WriteConcern clientWriteConcern = MongoClientProperties.toWriteConcern(properties.getWriteConcern().getClient());
+        if (clientWriteConcern != null) {
+            builder.writeConcern(clientWriteConcern);
         }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        MongoClientSettings settings = builder
+                .applyConnectionString(new ConnectionString(mongoUri))
+                .build();
+        logger.info("MongoDB client created (connection pool {}-{}, compressors {})",
+                pool.getMinSize(), pool.getMaxSize(), settings.getCompressorList());
+        return MongoClients.create(settings);
     }
 
     /**
-     * Creates a MongoTemplate instance for database operations
+     * Creates a MongoTemplate instance for database operations. It reads
+     * from the primary, so reads by id see the writes made before them.
+     * The bulk write concern becomes the template default, which bulk
+     * operations always use; inserts, saves and deletes use their own
+     * when set.
      *
      * @param mongoClient The MongoClient instance to use
      * @return Configured MongoTemplate instance
      */
     @Bean
+    @Primary
     public MongoTemplate mongoTemplate(MongoClient mongoClient) {
-        return new MongoTemplate(mongoClient, "logs");
+        MongoTemplate template = new MongoTemplate(mongoClient, "logs");
+        MongoClientProperties.WriteConcerns writeConcerns = properties.getWriteConcern();
+        template.setWriteConcern(MongoClientProperties.toWriteConcern(writeConcerns.getBulk()));
+        template.setWriteConcernResolver(writeConcernResolver(
+                MongoClientProperties.toWriteConcern(writeConcerns.getInsert()),
+                MongoClientProperties.toWriteConcern(writeConcerns.getDelete())));
+        return template;
+    }
+
+    /**
+     * Creates the read-only MongoTemplate of the listing, search and
+     * statistics queries. It shares the database and mapping of the main
+     * template but reads with the listing read preference, bounded by the
+     * listing max staleness, so dashboard traffic can be served by
+     * secondaries.
+     *
+     * @param mongoTemplate The main MongoTemplate
+     * @return MongoTemplate reading with the listing read preference
+     */
+    @Bean(LISTING_TEMPLATE)
+    public MongoTemplate listingMongoTemplate(MongoTemplate mongoTemplate) {
+        MongoTemplate template = new MongoTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter());
+        template.setReadPreference(MongoClientProperties.toReadPreference(
+                properties.getListingReadPreference(), properties.getListingMaxStaleness()));
+        return template;
+    }
+
+    /**
+     * Waits until MongoDB answers a ping, retrying with exponential backoff
+     * and without a limit. Runs on the main thread once the web server has
+     * started, and blocks the startup tasks ordered after it, which need the
+     * database, until MongoDB answers. The application only reports itself
+     * ready to take traffic once all of them have completed, while liveness
+     * is reported throughout.
+     *
+     * @param event The event published once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER - 1)
+    public void awaitConnection(ApplicationReadyEvent event) {
+        MongoClient client = event.getApplicationContext().getBean(MongoClient.class);
+        MongoClientProperties.Startup startup = properties.getStartup();
+        Duration delay = startup.getRetryInterval();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                client.getDatabase("admin").runCommand(new Document("ping", 1));
+                logger.info("MongoDB connected successfully!");
+                return;
+            } catch (MongoException e) {
+                logger.warn("MongoDB connection attempt {} failed due to - {}, retrying in {} ms",
+                        attempt, e.getMessage(), delay.toMillis());
+            }
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Duration doubled = delay.multipliedBy(2);
+            delay = doubled.compareTo(startup.getMaxRetryInterval()) > 0 ? startup.getMaxRetryInterval() : doubled;
+        }
+    }
+
+    /**
+     * Builds the resolver picking the write concern of an operation class
+     *
+     * @param insert Write concern of inserts and saves, may be null
+     * @param delete Write concern of deletes, may be null
+     * @return Resolver falling back to the template default
+     */
+    static WriteConcernResolver writeConcernResolver(WriteConcern insert, WriteConcern delete) {
+        return action -> {
+            WriteConcern resolved = switch (action.getMongoActionOperation()) {
+                case INSERT, SAVE -> insert;
+                case REMOVE -> delete;
+                default -> null;
+            };
+            return resolved != null ? resolved : action.getDefaultWriteConcern();
+        };
+    }
+
+    /**
+     * Creates the configured compressors, skipping zstd and snappy when
+     * their library is not on the classpath
+     *
+     * @param names Compressor names in order of preference
+     * @return Compressors to offer to the server
+     * @throws IllegalArgumentException if a name is unknown
+     */
+    static List<MongoCompressor> compressors(List<String> names) {
+        List<MongoCompressor> compressors = new ArrayList<>();
+        for (String name : names) {
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "zstd" -> {
+                    if (isPresent("com.github.luben.zstd.Zstd", name)) {
+                        compressors.add(MongoCompressor.createZstdCompressor());
+                    }
+                }
+                case "snappy" -> {
+                    if (isPresent("org.xerial.snappy.Snappy", name)) {
+                        compressors.add(MongoCompressor.createSnappyCompressor());
+                    }
+                }
+                case "zlib" -> compressors.add(MongoCompressor.createZlibCompressor());
+                default -> throw new IllegalArgumentException("Unknown MongoDB compressor: " + name);
+            }
+        }
+        return compressors;
+    }
+
+    private static boolean isPresent(String className, String compressor) {
+        if (ClassUtils.isPresent(className, MongoDBConfig.class.getClassLoader())) {
+            return true;
+        }
+        logger.warn("MongoDB compressor '{}' is not on the classpath and will not be used", compressor);
+        return false;
     }
-}
\ No newline at end of file
+}
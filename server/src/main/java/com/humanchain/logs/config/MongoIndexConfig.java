@@ -0,0 +1,74 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.util.List;
+
+/**
+ * Configuration class that ensures the indexes declared on the MongoDB
+ * entities exist once the application has started.
+ * The MongoTemplate built in {@link MongoDBConfig} does not auto-create
+ * indexes, so they are resolved from the mapping annotations here.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Configuration
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(AIIncident.class, IncidentStatsBucket.class);
+
+    /**
+     * Order of the startup listener, so index checks can run after it
+     */
+    public static final int ORDER = 0;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${incidents.indexes.ensure-on-startup:true}")
+    private boolean ensureOnStartup;
+
+    /**
+     * Constructs a new MongoIndexConfig
+     *
+     * @param mongoTemplate The MongoTemplate used to manage indexes
+     */
+    public MongoIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Creates any missing index declared on {@link AIIncident} and
+     * {@link IncidentStatsBucket}
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(ORDER)
+    public void ensureIndexes() {
+        if (!ensureOnStartup) {
+            logger.info("Index creation on startup is disabled");
+            return;
+        }
+
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(
+                mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(indexOps::ensureIndex);
+            logger.info("Ensured indexes on collection '{}'", mongoTemplate.getCollectionName(entity));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.repository.AIIncidentRepositoryImpl;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Health indicator that verifies the canonical incident queries are served
+ * by an index. Once the application is ready, each query and aggregation
+ * pipeline is run through {@code explain} and any winning plan containing a
+ * collection scan is reported. Depending on configuration this only logs a warning or takes
+ * the instance out of service, which fails the readiness probe.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+public class QueryPlanHealthIndicator implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanHealthIndicator.class);
+
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${incidents.indexes.verify-on-startup:true}")
+    private boolean verifyOnStartup;
+
+    @Value("${incidents.indexes.fail-readiness-on-collscan:false}")
+    private boolean failReadiness;
+
+    @Value("${incidents.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${incidents.stats.default-range:24h}")
+    private Duration statsRange = Duration.ofHours(24);
+
+    private volatile Map<String, String> plans;
+
+    private volatile List<String> collectionScans;
+
+    /**
+     * Constructs a new QueryPlanHealthIndicator
+     *
+     * @param mongoTemplate The MongoTemplate used to explain queries
+     */
+    public QueryPlanHealthIndicator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Explains the canonical queries after the indexes have been ensured
+     * by {@link MongoIndexConfig}
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER + 1)
+    public void verifyOnStartup() {
+        if (!verifyOnStartup) {
+            logger.info("Query plan verification on startup is disabled");
+            return;
+        }
+        verify();
+    }
+
+    /**
+     * Explains every canonical query and pipeline and records which ones
+     * scan the collection
+     */
+    public void verify() {
+        Map<String, String> results = new LinkedHashMap<>();
+        List<String> scans = new ArrayList<>();
+
+        canonicalQueries().forEach((name, query) -> record(name, () -> explain(query), results, scans));
+        canonicalPipelines().forEach((name, pipeline) -> record(name, () -> explain(pipeline), results, scans));
+
+        plans = Collections.unmodifiableMap(results);
+        collectionScans = Collections.unmodifiableList(scans);
+
+        if (scans.isEmpty()) {
+            logger.info("All {} canonical incident queries are index-backed", results.size());
+        } else {
+            logger.warn("Canonical incident queries without a usable index: {}", scans);
+        }
+    }
+
+    /**
+     * Runs one explain and records its outcome. A failed explain counts as
+     * a collection scan, since the query cannot be shown to use an index.
+     *
+     * @param name    The name of the query
+     * @param explain Runs the explain
+     * @param results Outcome by query name, added to
+     * @param scans   Names of queries that scan the collection, added to
+     */
+    private static void record(String name, Supplier<Document> explain, Map<String, String> results,
+                               List<String> scans) {
+        try {
+            boolean scan = usesCollectionScan(explain.get());
+            results.put(name, scan ? COLLECTION_SCAN : "INDEX");
+            if (scan) {
+                scans.add(name);
+            }
+        } catch (RuntimeException e) {
+            results.put(name, "ERROR: " + e.getMessage());
+            scans.add(name);
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (plans == null) {
+            return Health.unknown().withDetail("reason", "Query plans have not been verified").build();
+        }
+        Health.Builder builder = collectionScans.isEmpty() || !failReadiness
+                ? Health.up()
+                : Health.outOfService();
+        return builder
+                .withDetail("plans", plans)
+                .withDetail("collectionScans", collectionScans)
+                .build();
+    }
+
+    /**
+     * Builds the queries the API issues on its hot paths, keyed by a short name
+     *
+     * @return Ordered map of query name to query
+     */
+    Map<String, Query> canonicalQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        int limit = defaultPageSize + 1;
+
+        Map<String, Query> queries = new LinkedHashMap<>();
+        queries.put("listing", AIIncidentRepositoryImpl.listingQuery(IncidentFilter.none(), null, limit));
+        queries.put("listing-by-severity", AIIncidentRepositoryImpl.listingQuery(
+                new IncidentFilter(AIIncident.Severity.HIGH, null, null, null), null, limit));
+        queries.put("listing-by-range", AIIncidentRepositoryImpl.listingQuery(
+                new IncidentFilter(null, now.minusDays(1), now, null), null, limit));
+        queries.put("listing-next-page", AIIncidentRepositoryImpl.listingQuery(
+                IncidentFilter.none(), new IncidentCursor(now, new ObjectId()), limit));
+        queries.put("export", new Query().with(Sort.by(Sort.Direction.ASC, "_id")));
+        return queries;
+    }
+
+    /**
+     * Builds the aggregation pipelines of the search and statistics
+     * endpoints, keyed by a short name
+     *
+     * @return Ordered map of pipeline name to pipeline
+     */
+    Map<String, Aggregation> canonicalPipelines() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Aggregation> pipelines = new LinkedHashMap<>();
+        pipelines.put("text-search", AIIncidentRepositoryImpl.searchAggregation(
+                "incident", IncidentFilter.none(), null, defaultPageSize + 1));
+        pipelines.put("stats", AIIncidentRepositoryImpl.statsAggregation(
+                new IncidentFilter(null, now.minus(statsRange), now, null), IncidentStatsBucket.Unit.HOUR));
+        return pipelines;
+    }
+
+    /**
+     * Runs explain for a query against the incidents collection
+     *
+     * @param query The query to explain
+     * @return The explain output in queryPlanner verbosity
+     */
+    private Document explain(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(AIIncident.class);
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        Document filter = mapper.getMappedObject(query.getQueryObject(), entity);
+        Document sort = mapper.getMappedSort(query.getSortObject(), entity);
+
+        return mongoTemplate.execute(AIIncident.class, collection -> collection.find(filter)
+                .sort(sort)
+                .limit(query.getLimit())
+                .explain());
+    }
+
+    /**
+     * Runs explain for an aggregation pipeline against the incidents collection
+     *
+     * @param pipeline The pipeline to explain
+     * @return The explain output of the aggregate command
+     */
+    private Document explain(Aggregation pipeline) {
+        return mongoTemplate.aggregate(
+                        pipeline.withOptions(AggregationOptions.builder().explain(true).build()),
+                        AIIncident.class, Document.class)
+                .getRawResults();
+    }
+
+    /**
+     * Checks whether a winning plan of an explain output scans the
+     * collection. Pipelines report their query plan under the $cursor stage,
+     * or per shard, rather than at the top level.
+     *
+     * @param explain The explain output
+     * @return true if any stage of a winning plan is a COLLSCAN
+     */
+    static boolean usesCollectionScan(Document explain) {
+        return winningPlanContains(explain, COLLECTION_SCAN);
+    }
+
+    private static boolean winningPlanContains(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (document.containsKey("winningPlan")) {
+                return containsStage(document.get("winningPlan"), stage);
+            }
+            return document.values().stream().anyMatch(value -> winningPlanContains(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> winningPlanContains(value, stage));
+        }
+        return false;
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.humanchain.logs.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Configuration class for the reactive profile.
+ * Runs the WebFlux stack on Netty and applies the same CORS rules as
+ * {@link CorsConfig} does for the servlet stack.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    /**
+     * Selects Netty as the embedded server. Tomcat is on the classpath too
+     * and would otherwise be preferred.
+     *
+     * @return Netty server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**")
+                .allowedOrigins(System.getenv("CORS_ALLOWED_ORIGINS"))
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedHeaders("*")
+                .exposedHeaders("Authorization")
+                .maxAge(3600)
+                .allowCredentials(true);
+    }
+}
@@ -0,0 +1,45 @@
+package com.humanchain.logs.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary representations of the API responses. Clients asking for
+ * application/cbor or application/x-jackson-smile in their Accept header get
+ * the same envelope in a compact binary encoding; everyone else keeps
+ * getting JSON. The converters are built from the application's Jackson
+ * configuration, so dates and ids are written the same way as in JSON.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Creates the CBOR converter
+     *
+     * @param builder The application's ObjectMapper builder
+     * @return Converter for application/cbor
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the Smile converter
+     *
+     * @param builder The application's ObjectMapper builder
+     * @return Converter for application/x-jackson-smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -2,135 +2,391 @@ package com.humanchain.logs.controller;
 
 import com.humanchain.logs.dto.AIIncidentCreateDTO;
 import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.dto.RawIncidentPageDTO;
 import com.humanchain.logs.model.AIIncident;
 import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentCreation;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentSearchPage;
+import com.humanchain.logs.model.IncidentVersion;
 import com.humanchain.logs.service.AIIncidentService;
+import com.humanchain.logs.service.IncidentVersionTracker;
 import com.humanchain.logs.validation.AIIncidentValidator;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.Arrays;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for managing AI Incidents.
- * Provides endpoints for CRUD operations on AI incidents.
+ * Provides endpoints for CRUD operations on AI incidents. Serves the
+ * default servlet stack; the reactive profile uses
+ * {@link ReactiveAIIncidentController} instead.
+ * Reads carry an ETag and Last-Modified, and a matching conditional request
+ * is answered with 304 before the incidents are queried or serialized.
+ * Listings and search results are tagged with the collection version, and
+ * single incidents, which never change, with their id.
+ * Responses are negotiated by Accept as JSON, CBOR or Smile, and the
+ * validators are weak since they cover all of these encodings.
+ * Creates may carry an Idempotency-Key header; a retried create with the
+ * same key is answered with the id of the incident created first.
  *
  * @author Vikas Singh
  * @since 1.0
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/incidents")
 public class AIIncidentController {
 
     private static final Logger logger = LoggerFactory.getLogger(AIIncidentController.class);
+
+    /**
+     * Request header carrying the client-supplied idempotency key of a create
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Response header set when a create was answered by an earlier request
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final AIIncidentService service;
     private final AIIncidentValidator validator;
+    private final IncidentVersionTracker versionTracker;
+
+    @Value("${incidents.http-cache.list:no-cache}")
+    private String listCacheControl = "no-cache";
+
+    @Value("${incidents.http-cache.search:no-cache}")
+    private String searchCacheControl = "no-cache";
+
+    @Value("${incidents.http-cache.item:no-cache}")
+    private String itemCacheControl = "no-cache";
+
+    @Value("${incidents.page.raw-bson:true}")
+    private boolean rawBson = true;
 
     /**
      * Constructs a new AIIncidentController with required dependencies
      *
-     * @param service   The service layer for AI incident operations
-     * @param validator The validator for AI incident data
+     * @param service        The service layer for AI incident operations
+     * @param validator      The validator for AI incident data
+     * @param versionTracker The version conditional reads are validated against
      */
-    public AIIncidentController(AIIncidentService service, AIIncidentValidator validator) {
+    public AIIncidentController(AIIncidentService service, AIIncidentValidator validator,
+                                IncidentVersionTracker versionTracker) {
         this.service = service;
         this.validator = validator;
+        this.versionTracker = versionTracker;
     }
 
     /**
-     * Retrieves all AI incidents from the database
+     * Retrieves one page of AI incidents, newest first. Filters are applied
+     * by the database and the listing is paginated by an opaque cursor.
+     * Complete incidents are serialized straight from the BSON documents
+     * the driver returns, unless incidents.page.raw-bson is disabled.
      *
-     * @return ResponseEntity containing a list of all incidents or an empty list
-     *         with appropriate message
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param title    Optional case-insensitive substring of the title
+     * @param cursor   Continuation token returned with the previous page
+     * @param limit    Requested page size
+     * @param fields   Optional comma separated fields to return, e.g.
+     *                 "summary" or "id,title,preview"; all fields by default
+     * @param request  The request, checked for conditional headers
+     * @return ResponseEntity containing the requested page of incidents,
+     *         304 if the client's copy is current, or appropriate error message
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AIIncidentDTO>>> getAllIncidents() {
-        logger.info("Fetching all incidents");
-        List<AIIncident> incidents = service.getAllIncidents();
+    public ResponseEntity<ApiResponse<IncidentPageDTO<?>>> getAllIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(invalidSeverityMessage()));
+        }
 
-        if (incidents.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(ApiResponse.success(List.of(), "No incidents found in the database"));
+        IncidentFields fieldset;
+        try {
+            fieldset = IncidentFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage() + ". Allowed values are: " + IncidentFields.allowedValues()));
+        }
+
+        IncidentVersion version = versionTracker.current();
+        if (request.checkNotModified(version.etag(), version.getLastModified().toEpochMilli())) {
+            return cacheable(HttpStatus.NOT_MODIFIED, listCacheControl).build();
+        }
+
+        IncidentFilter filter = new IncidentFilter(severityFilter, from, to, title);
+        IncidentPageDTO<?> page;
+        try {
+            page = fieldset == null && rawBson
+                    ? RawIncidentPageDTO.fromPage(service.getRawIncidents(filter, cursor, limit))
+                    : IncidentPageDTO.fromSparsePage(service.getAllIncidents(filter, cursor, limit, fieldset));
+        } catch (IllegalArgumentException e) {
+            logger.debug("Invalid cursor: {}", cursor);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid cursor. Please pass the nextCursor of a previous page"));
+        }
+
+        if (page.getItems().isEmpty()) {
+            return cacheable(HttpStatus.OK, listCacheControl)
+                    .body(ApiResponse.success(page, "No incidents found in the database"));
+        }
+
+        return cacheable(HttpStatus.OK, listCacheControl)
+                .body(ApiResponse.success(page, "Successfully retrieved incidents"));
+    }
+
+    /**
+     * Searches incidents by title and description, most relevant first.
+     * Results are served from the text index and can be narrowed down by
+     * severity and reported timestamp.
+     *
+     * @param q        The search text
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param cursor   Continuation token returned with the previous page
+     * @param limit    Requested page size
+     * @param request  The request, checked for conditional headers
+     * @return ResponseEntity containing the requested page of hits, 304 if
+     *         the client's copy is current, or appropriate error message
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<IncidentPageDTO<AIIncidentDTO>>> searchIncidents(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(invalidSeverityMessage()));
+        }
+
+        IncidentVersion version = versionTracker.current();
+        if (request.checkNotModified(version.etag(), version.getLastModified().toEpochMilli())) {
+            return cacheable(HttpStatus.NOT_MODIFIED, searchCacheControl).build();
+        }
+
+        IncidentSearchPage page;
+        try {
+            page = service.searchIncidents(q, new IncidentFilter(severityFilter, from, to, null), cursor, limit);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Invalid search request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
         }
 
-        List<AIIncidentDTO> dtos = incidents.stream()
-                .map(AIIncidentDTO::fromEntity)
-                .collect(Collectors.toList());
+        if (page.getHits().isEmpty()) {
+            return cacheable(HttpStatus.OK, searchCacheControl)
+                    .body(ApiResponse.success(IncidentPageDTO.fromSearchPage(page), "No incidents match the search"));
+        }
 
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.success(dtos, "Successfully retrieved all incidents"));
+        return cacheable(HttpStatus.OK, searchCacheControl)
+                .body(ApiResponse.success(IncidentPageDTO.fromSearchPage(page), "Successfully searched incidents"));
     }
 
     /**
      * Retrieves a specific incident by its ID
      *
-     * @param id The ID of the incident to retrieve
-     * @return ResponseEntity containing the incident if found, or appropriate error
-     *         message
+     * @param id      The ID of the incident to retrieve
+     * @param request The request, checked for conditional headers
+     * @return ResponseEntity containing the incident if found, 304 if the
+     *         client's copy is current, or appropriate error message
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<AIIncidentDTO>> getIncidentById(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<AIIncidentDTO>> getIncidentById(@PathVariable String id, WebRequest request) {
         try {
             ObjectId objectId = new ObjectId(id);
             Optional<AIIncident> incident = service.getIncidentById(objectId);
 
             if (incident.isEmpty()) {
-                logger.warn("Incident not found with id: {}", id);
+                logger.debug("Incident not found with id: {}", id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.notFound("No incident found with id: " + id));
             }
 
-            return ResponseEntity.status(HttpStatus.OK)
+            IncidentVersion version = IncidentVersion.of(incident.get());
+            if (request.checkNotModified(version.etag(), version.getLastModified().toEpochMilli())) {
+                return cacheable(HttpStatus.NOT_MODIFIED, itemCacheControl).build();
+            }
+
+            return cacheable(HttpStatus.OK, itemCacheControl)
                     .body(ApiResponse.success(
                             AIIncidentDTO.fromEntity(incident.get()),
                             "Successfully retrieved incident"));
         } catch (IllegalArgumentException e) {
-            logger.error("Invalid ObjectId format: {}", id);
+            logger.debug("Invalid ObjectId format: {}", id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Invalid ID format. Please provide a valid MongoDB ObjectId"));
         }
     }
 
     /**
-     * Creates a new AI incident
+     * Creates a new AI incident. With an idempotency key the incident is
+     * created at most once, and a repeated request gets the same status and
+     * id as the first one, marked with the Idempotent-Replayed header.
      *
-     * @param incidentDTO The incident data to create
-     * @return ResponseEntity containing the created incident or validation error
-     *         message
+     * @param incidentDTO    The incident data to create
+     * @param idempotencyKey Optional client-supplied key of the create
+     * @return ResponseEntity containing the created incident id (201), the
+     *         pre-assigned id when ingestion is asynchronous (202), or
+     *         validation error message
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<String>> createIncident(@RequestBody AIIncidentCreateDTO incidentDTO) {
+    public ResponseEntity<ApiResponse<String>> createIncident(
+            @RequestBody AIIncidentCreateDTO incidentDTO,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey != null && !isValidIdempotencyKey(idempotencyKey)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid " + IDEMPOTENCY_KEY_HEADER + ". Please provide 1 to "
+                            + MAX_IDEMPOTENCY_KEY_LENGTH + " visible ASCII characters"));
+        }
+
         var validationResult = validator.validate(incidentDTO);
         if (!validationResult.isValid()) {
-            logger.warn("Validation failed: {}", validationResult.getMessage());
+            logger.debug("Validation failed: {}", validationResult.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error(validationResult.getMessage()));
         }
 
         try {
             AIIncident incident = incidentDTO.toEntity();
-            AIIncident createdIncident = service.createIncident(incident);
-            String incidentId = createdIncident.getId().toHexString();
-            logger.info("Created incident with id: {}", incidentId);
+            if (service.isAsyncIngestEnabled()) {
+                return enqueueIncident(incident, idempotencyKey);
+            }
+
+            if (idempotencyKey == null) {
+                AIIncident createdIncident = service.createIncident(incident);
+                String incidentId = createdIncident.getId().toHexString();
+                logger.debug("Created incident with id: {}", incidentId);
+
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(incidentId, "Incident created successfully with id: " + incidentId));
+            }
+
+            IncidentCreation creation = service.createIncident(incident, idempotencyKey);
+            String incidentId = creation.getId().toHexString();
+            if (creation.isReplayed()) {
+                logger.debug("Replayed creation of incident with id: {}", incidentId);
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .header(REPLAYED_HEADER, "true")
+                        .body(ApiResponse.success(incidentId, "Incident already created with id: " + incidentId));
+            }
+            logger.debug("Created incident with id: {}", incidentId);
 
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success(incidentId, "Incident created successfully with id: " + incidentId));
         } catch (IllegalArgumentException e) {
-            logger.error("Invalid severity value: {}", incidentDTO.getSeverity());
-            String allowedValues = Arrays.stream(AIIncident.Severity.values())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
+            logger.debug("Invalid severity value: {}", incidentDTO.getSeverity());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid severity value. Allowed values are: " + allowedValues));
+                    .body(ApiResponse.error(invalidSeverityMessage()));
+        }
+    }
+
+    /**
+     * Hands the incident to the write-behind queue. Answers 202 with the
+     * pre-assigned id, or 503 when the queue is full.
+     *
+     * @param incident       The validated incident to create
+     * @param idempotencyKey Optional client-supplied key of the create
+     * @return ResponseEntity containing the assigned id or an overload message
+     */
+    private ResponseEntity<ApiResponse<String>> enqueueIncident(AIIncident incident, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            if (!service.enqueueIncident(incident)) {
+                return queueFull();
+            }
+            String incidentId = incident.getId().toHexString();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(incidentId, "Incident accepted for processing with id: " + incidentId));
         }
+
+        Optional<IncidentCreation> creation = service.enqueueIncident(incident, idempotencyKey);
+        if (creation.isEmpty()) {
+            return queueFull();
+        }
+        String incidentId = creation.get().getId().toHexString();
+        if (creation.get().isReplayed()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(REPLAYED_HEADER, "true")
+                    .body(ApiResponse.success(incidentId, "Incident already accepted with id: " + incidentId));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(incidentId, "Incident accepted for processing with id: " + incidentId));
+    }
+
+    private static ResponseEntity<ApiResponse<String>> queueFull() {
+        logger.debug("Ingest queue full, rejecting incident");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("Server is busy, please retry the incident later"));
+    }
+
+    /**
+     * Checks that an idempotency key is 1 to 255 visible ASCII characters
+     *
+     * @param key The key to check
+     * @return true if the key is acceptable
+     */
+    static boolean isValidIdempotencyKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return false;
+        }
+        return key.chars().allMatch(c -> c > 0x20 && c < 0x7f);
+    }
+
+    /**
+     * Starts a response carrying the configured Cache-Control directives.
+     * The representation depends on the Accept header, which caches are
+     * told with Vary.
+     *
+     * @param status       The response status
+     * @param cacheControl The Cache-Control value, omitted when blank
+     * @return BodyBuilder for the response
+     */
+    private static ResponseEntity.BodyBuilder cacheable(HttpStatus status, String cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status).varyBy(HttpHeaders.ACCEPT);
+        if (StringUtils.hasText(cacheControl)) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        return response;
     }
 
     /**
@@ -139,15 +395,12 @@ public class AIIncidentController {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse<String>> handleHttpMessageNotReadableException(
             HttpMessageNotReadableException ex) {
-        logger.error("JSON parsing error: {}", ex.getMessage());
+        logger.debug("JSON parsing error: {}", ex.getMessage());
 
         if (ex.getMessage() != null && ex.getMessage()
                 .contains("Cannot deserialize value of type `com.humanchain.logs.model.AIIncident$Severity`")) {
-            String allowedValues = Arrays.stream(AIIncident.Severity.values())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.error("Invalid severity value. Allowed values are: " + allowedValues));
+                    .body(ApiResponse.error(invalidSeverityMessage()));
         }
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -155,7 +408,8 @@ public class AIIncidentController {
     }
 
     /**
-     * Deletes an incident by its ID
+     * Deletes an incident by its ID. The delete itself tells whether the
+     * incident existed, so no lookup precedes it.
      *
      * @param id The ID of the incident to delete
      * @return ResponseEntity with success message or appropriate error message
@@ -164,22 +418,29 @@ public class AIIncidentController {
     public ResponseEntity<ApiResponse<String>> deleteIncident(@PathVariable String id) {
         try {
             ObjectId objectId = new ObjectId(id);
-            Optional<AIIncident> existingIncident = service.getIncidentById(objectId);
 
-            if (existingIncident.isEmpty()) {
-                logger.warn("Attempted to delete non-existent incident with id: {}", id);
+            if (!service.deleteIncident(objectId)) {
+                logger.debug("Attempted to delete non-existent incident with id: {}", id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.notFound("Cannot delete, no incident found with id: " + id));
             }
 
-            service.deleteIncident(objectId);
-            logger.info("Deleted incident with id: {}", id);
+            logger.debug("Deleted incident with id: {}", id);
             return ResponseEntity.status(HttpStatus.OK)
                     .body(ApiResponse.success(id, "Incident deleted successfully with id: " + id));
         } catch (IllegalArgumentException e) {
-            logger.error("Invalid ObjectId format: {}", id);
+            logger.debug("Invalid ObjectId format: {}", id);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Invalid ID format. Please provide a valid MongoDB ObjectId"));
         }
     }
+
+    /**
+     * Builds the error message listing the allowed severity values
+     *
+     * @return Error message for an invalid severity
+     */
+    private static String invalidSeverityMessage() {
+        return "Invalid severity value. Allowed values are: " + AIIncident.Severity.allowedValues();
+    }
 }
\ No newline at end of file
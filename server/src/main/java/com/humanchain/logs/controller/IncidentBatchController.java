@@ -0,0 +1,135 @@
+package com.humanchain.logs.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.dto.IncidentBatchResultDTO;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.service.IncidentBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller for creating AI Incidents in batches.
+ * Accepts either a JSON array or a newline-delimited JSON stream of
+ * incidents and reports the outcome of every item.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/incidents")
+public class IncidentBatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentBatchController.class);
+    private final IncidentBatchService batchService;
+    private final ObjectReader incidentReader;
+
+    /**
+     * Constructs a new IncidentBatchController with required dependencies
+     *
+     * @param batchService The service creating incidents in batches
+     * @param objectMapper The application ObjectMapper used to parse NDJSON lines
+     */
+    public IncidentBatchController(IncidentBatchService batchService, ObjectMapper objectMapper) {
+        this.batchService = batchService;
+        this.incidentReader = objectMapper.readerFor(AIIncidentCreateDTO.class);
+    }
+
+    /**
+     * Creates a batch of incidents submitted as a JSON array
+     *
+     * @param incidents The incidents to create
+     * @return ResponseEntity containing the result of every item
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<IncidentBatchResultDTO>> createIncidents(
+            @RequestBody List<AIIncidentCreateDTO> incidents) {
+        return toResponse(batchService.createIncidents(incidents));
+    }
+
+    /**
+     * Creates a batch of incidents submitted as newline-delimited JSON, one
+     * incident per line. Blank lines are ignored.
+     *
+     * @param body The raw request body
+     * @return ResponseEntity containing the result of every item, or
+     *         appropriate error message if a line cannot be parsed
+     * @throws IOException if reading the request body fails
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<IncidentBatchResultDTO>> createIncidentsFromNdjson(InputStream body)
+            throws IOException {
+        List<AIIncidentCreateDTO> incidents = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (incidents.size() == batchService.getMaxItems()) {
+                throw new IllegalArgumentException("Batch too large. At most "
+                        + batchService.getMaxItems() + " incidents are accepted per request");
+            }
+            try {
+                incidents.add(incidentReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                logger.debug("Invalid NDJSON line {}: {}", lineNumber, e.getOriginalMessage());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Invalid request format on line " + lineNumber + ": "
+                                + e.getOriginalMessage()));
+            }
+        }
+        return toResponse(batchService.createIncidents(incidents));
+    }
+
+    /**
+     * Exception handler for batches exceeding the maximum size
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<String>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.debug("Rejected batch: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * Maps a batch result to the response status: 201 when every item was
+     * created, 207 when only some were, 400 when none were
+     *
+     * @param result The batch result
+     * @return ResponseEntity wrapping the result
+     */
+    private ResponseEntity<ApiResponse<IncidentBatchResultDTO>> toResponse(IncidentBatchResultDTO result) {
+        logger.debug("Batch processed: {} created, {} failed", result.getCreated(), result.getFailed());
+        if (result.getFailed() == 0) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(result, "Created " + result.getCreated() + " incidents"));
+        }
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status)
+                .body(ApiResponse.success(result, "Created " + result.getCreated() + " of "
+                        + result.getTotal() + " incidents"));
+    }
+}
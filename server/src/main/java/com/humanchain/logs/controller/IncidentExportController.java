@@ -0,0 +1,138 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.service.IncidentExportService;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST Controller for exporting AI Incidents in bulk.
+ * Streams incidents as newline-delimited JSON straight from the database
+ * cursor to the response, instead of building the full list in memory.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/incidents")
+public class IncidentExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentExportController.class);
+    private final IncidentExportService exportService;
+
+    /**
+     * Constructs a new IncidentExportController with required dependencies
+     *
+     * @param exportService The service streaming incidents for export
+     */
+    public IncidentExportController(IncidentExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Exports incidents as newline-delimited JSON in ascending id order
+     *
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param after    Optional id of the last incident already received, used
+     *                 to resume an interrupted export
+     * @param gzip     Whether to gzip-compress the response body
+     * @return ResponseEntity streaming the incidents
+     * @throws IllegalArgumentException if the severity or id is invalid
+     */
+    @GetMapping(value = "/export", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> exportIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        IncidentFilter filter = new IncidentFilter(parseSeverity(severity), from, to, null);
+        ObjectId afterId = parseAfterId(after);
+
+        StreamingResponseBody body = out -> {
+            long count;
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true);
+                count = exportService.exportIncidents(filter, afterId, gzipOut);
+                gzipOut.finish();
+            } else {
+                count = exportService.exportIncidents(filter, afterId, out);
+            }
+            logger.debug("Exported {} incidents", count);
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Exception handler for invalid export parameters
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<String>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.error("Invalid export request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * Parses an optional severity request parameter
+     *
+     * @param severity The raw parameter value, may be null or blank
+     * @return The parsed severity, or null when no severity was given
+     * @throws IllegalArgumentException if the value is not a known severity
+     */
+    private static AIIncident.Severity parseSeverity(String severity) {
+        try {
+            return AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid severity value. Allowed values are: " + AIIncident.Severity.allowedValues(), e);
+        }
+    }
+
+    /**
+     * Parses the optional resume position of an export
+     *
+     * @param after The raw parameter value, may be null or blank
+     * @return The parsed ObjectId, or null when no id was given
+     * @throws IllegalArgumentException if the value is not a valid ObjectId
+     */
+    private static ObjectId parseAfterId(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        if (!ObjectId.isValid(after)) {
+            throw new IllegalArgumentException("Invalid ID format. Please provide a valid MongoDB ObjectId");
+        }
+        return new ObjectId(after);
+    }
+}
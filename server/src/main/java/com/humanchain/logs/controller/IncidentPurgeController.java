@@ -0,0 +1,161 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.dto.IncidentDeleteResultDTO;
+import com.humanchain.logs.dto.IncidentPurgeJobDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPurgeJob;
+import com.humanchain.logs.service.IncidentPurgeService;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * REST Controller for deleting AI Incidents in bulk.
+ * Deletes lists of incidents by id in one round-trip, and purges ranges of
+ * incidents by severity and reportedAt in throttled background jobs whose
+ * progress can be polled.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/incidents")
+public class IncidentPurgeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentPurgeController.class);
+    private final IncidentPurgeService purgeService;
+
+    /**
+     * Constructs a new IncidentPurgeController with required dependencies
+     *
+     * @param purgeService The service deleting incidents in bulk
+     */
+    public IncidentPurgeController(IncidentPurgeService purgeService) {
+        this.purgeService = purgeService;
+    }
+
+    /**
+     * Deletes the incidents with the given ids. Duplicate ids are deleted
+     * once and malformed ids are reported and skipped.
+     *
+     * @param ids The IDs of the incidents to delete
+     * @return ResponseEntity containing the number of deleted incidents, or
+     *         appropriate error message if too many ids are given
+     */
+    @PostMapping("/delete-batch")
+    public ResponseEntity<ApiResponse<IncidentDeleteResultDTO>> deleteIncidents(@RequestBody List<String> ids) {
+        if (ids.size() > purgeService.getMaxIds()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(ApiResponse.error("Too many ids. At most " + purgeService.getMaxIds()
+                            + " ids are accepted per request"));
+        }
+
+        Set<ObjectId> objectIds = new LinkedHashSet<>();
+        List<String> invalidIds = new ArrayList<>();
+        for (String id : ids) {
+            if (id != null && ObjectId.isValid(id)) {
+                objectIds.add(new ObjectId(id));
+            } else {
+                invalidIds.add(id);
+            }
+        }
+
+        long deleted = purgeService.deleteIncidents(objectIds);
+        logger.debug("Deleted {} of {} incidents", deleted, objectIds.size());
+        IncidentDeleteResultDTO result = new IncidentDeleteResultDTO(objectIds.size(), deleted, invalidIds);
+        return ResponseEntity.ok(ApiResponse.success(result,
+                "Deleted " + deleted + " of " + objectIds.size() + " incidents"));
+    }
+
+    /**
+     * Starts purging the incidents in a range. The purge runs in the
+     * background; its progress is available at the returned location.
+     *
+     * @param severity Optional severity the purged incidents have
+     * @param from     Lower bound (inclusive) of the reported timestamp
+     * @param to       Upper bound (inclusive) of the reported timestamp
+     * @return ResponseEntity containing the queued job (202), or appropriate
+     *         error message if the range is invalid
+     */
+    @PostMapping("/purge")
+    public ResponseEntity<ApiResponse<IncidentPurgeJobDTO>> purgeIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid severity value. Allowed values are: "
+                            + AIIncident.Severity.allowedValues()));
+        }
+
+        IncidentPurgeJob job;
+        try {
+            job = purgeService.submit(new IncidentFilter(severityFilter, from, to, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/{id}").buildAndExpand(job.getId()).toUri())
+                .body(ApiResponse.success(IncidentPurgeJobDTO.fromJob(job), "Purge queued with id: " + job.getId()));
+    }
+
+    /**
+     * Retrieves the progress of a purge job
+     *
+     * @param id The ID of the job
+     * @return ResponseEntity containing the job, or 404 if it is unknown
+     */
+    @GetMapping("/purge/{id}")
+    public ResponseEntity<ApiResponse<IncidentPurgeJobDTO>> getPurgeJob(@PathVariable String id) {
+        return toResponse(id, purgeService.getJob(id), "Successfully retrieved purge job");
+    }
+
+    /**
+     * Cancels a purge job after its current chunk
+     *
+     * @param id The ID of the job
+     * @return ResponseEntity containing the job, or 404 if it is unknown
+     */
+    @DeleteMapping("/purge/{id}")
+    public ResponseEntity<ApiResponse<IncidentPurgeJobDTO>> cancelPurgeJob(@PathVariable String id) {
+        return toResponse(id, purgeService.cancel(id), "Purge job cancellation requested");
+    }
+
+    private static ResponseEntity<ApiResponse<IncidentPurgeJobDTO>> toResponse(
+            String id, Optional<IncidentPurgeJob> job, String message) {
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.notFound("No purge job found with id: " + id));
+        }
+        return ResponseEntity.ok(ApiResponse.success(IncidentPurgeJobDTO.fromJob(job.get()), message));
+    }
+}
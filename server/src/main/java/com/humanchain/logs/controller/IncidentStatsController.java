@@ -0,0 +1,93 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.dto.IncidentStatsDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.service.IncidentStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller for AI Incident statistics.
+ * Serves counts per severity and time bucket computed by the database, so
+ * clients no longer download every incident to build their charts.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/incidents")
+public class IncidentStatsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentStatsController.class);
+    private final IncidentStatsService statsService;
+
+    /**
+     * Constructs a new IncidentStatsController with required dependencies
+     *
+     * @param statsService The service computing incident statistics
+     */
+    public IncidentStatsController(IncidentStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    /**
+     * Retrieves incident counts per severity and per time bucket
+     *
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional start (inclusive) of the reported timestamp range
+     * @param to       Optional end (inclusive) of the reported timestamp range
+     * @param bucket   Width of the time buckets: minute, hour or day
+     * @return ResponseEntity containing the statistics or appropriate error
+     *         message
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<IncidentStatsDTO>> getStats(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "hour") String bucket) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid severity value. Allowed values are: "
+                            + AIIncident.Severity.allowedValues()));
+        }
+
+        IncidentStatsBucket.Unit unit;
+        try {
+            unit = IncidentStatsBucket.Unit.fromName(bucket);
+        } catch (IllegalArgumentException e) {
+            unit = null;
+        }
+        if (unit == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid bucket value. Allowed values are: "
+                            + IncidentStatsBucket.Unit.allowedValues()));
+        }
+
+        try {
+            IncidentStatsDTO stats = statsService.getStats(severityFilter, from, to, unit);
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(ApiResponse.success(stats, "Successfully computed incident statistics"));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid stats request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.service.IncidentStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller streaming AI Incident changes as server-sent events.
+ * Sends a 'created' event with the incident and a 'deleted' event with its
+ * ID as they happen, and a 'reset' event when a reconnecting client missed
+ * more events than can be replayed and has to reload.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/incidents")
+public class IncidentStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentStreamController.class);
+
+    private final IncidentStreamService streamService;
+
+    /**
+     * Constructs a new IncidentStreamController with required dependencies
+     *
+     * @param streamService Service managing the stream subscriptions
+     */
+    public IncidentStreamController(IncidentStreamService streamService) {
+        this.streamService = streamService;
+    }
+
+    /**
+     * Subscribes to created and deleted incidents
+     *
+     * @param severity    Optional severity the streamed incidents must have
+     * @param lastEventId ID of the last received event, sent by EventSource
+     *                    when it reconnects
+     * @return SseEmitter the events are written to
+     * @throws IllegalArgumentException if the severity is invalid
+     * @throws IllegalStateException if the maximum number of subscribers is reached
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid severity value. Allowed values are: " + AIIncident.Severity.allowedValues(), e);
+        }
+        return streamService.subscribe(severityFilter, lastEventId);
+    }
+
+    /**
+     * Exception handler for invalid stream parameters
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<String>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.debug("Invalid stream request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * Exception handler for subscriptions beyond the configured maximum
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ApiResponse<String>> handleIllegalStateException(IllegalStateException ex) {
+        logger.debug("Rejected stream subscription: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+}
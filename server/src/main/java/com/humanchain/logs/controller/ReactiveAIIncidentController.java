@@ -0,0 +1,223 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.service.ReactiveAIIncidentService;
+import com.humanchain.logs.validation.AIIncidentValidator;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive REST Controller for managing AI Incidents.
+ * Serves the same routes and response envelope as
+ * {@link AIIncidentController} on the non-blocking WebFlux and reactive Mongo
+ * stack. Only active in the reactive profile.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/incidents")
+public class ReactiveAIIncidentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAIIncidentController.class);
+    private final ReactiveAIIncidentService service;
+    private final AIIncidentValidator validator;
+
+    /**
+     * Constructs a new ReactiveAIIncidentController with required dependencies
+     *
+     * @param service   The reactive service layer for AI incident operations
+     * @param validator The validator for AI incident data
+     */
+    public ReactiveAIIncidentController(ReactiveAIIncidentService service, AIIncidentValidator validator) {
+        this.service = service;
+        this.validator = validator;
+    }
+
+    /**
+     * Retrieves one page of AI incidents, newest first
+     *
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param title    Optional case-insensitive substring of the title
+     * @param cursor   Continuation token returned with the previous page
+     * @param limit    Requested page size
+     * @return Mono emitting the requested page of incidents or appropriate
+     *         error message
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResponse<IncidentPageDTO<AIIncidentDTO>>>> getAllIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(invalidSeverityMessage())));
+        }
+
+        return service.getAllIncidents(new IncidentFilter(severityFilter, from, to, title), cursor, limit)
+                .map(page -> ResponseEntity.status(HttpStatus.OK)
+                        .body(ApiResponse.success(IncidentPageDTO.fromPage(page), page.getItems().isEmpty()
+                                ? "No incidents found in the database"
+                                : "Successfully retrieved incidents")))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    logger.debug("Invalid cursor: {}", cursor);
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                            .body(ApiResponse.error("Invalid cursor. Please pass the nextCursor of a previous page")));
+                });
+    }
+
+    /**
+     * Streams every AI incident matching the filters, newest first, as
+     * newline-delimited JSON. Selected with Accept: application/x-ndjson.
+     * Documents are pulled from the database only as fast as the client reads.
+     *
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param title    Optional case-insensitive substring of the title
+     * @return Flux of matching incidents
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AIIncidentDTO> streamIncidents(
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String title) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException(invalidSeverityMessage());
+        }
+        return service.streamIncidents(new IncidentFilter(severityFilter, from, to, title))
+                .map(AIIncidentDTO::fromEntity);
+    }
+
+    /**
+     * Retrieves a specific incident by its ID
+     *
+     * @param id The ID of the incident to retrieve
+     * @return Mono emitting the incident if found, or appropriate error message
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<AIIncidentDTO>>> getIncidentById(@PathVariable String id) {
+        if (!ObjectId.isValid(id)) {
+            logger.debug("Invalid ObjectId format: {}", id);
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid ID format. Please provide a valid MongoDB ObjectId")));
+        }
+
+        return service.getIncidentById(new ObjectId(id))
+                .map(incident -> ResponseEntity.status(HttpStatus.OK)
+                        .body(ApiResponse.success(AIIncidentDTO.fromEntity(incident), "Successfully retrieved incident")))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.debug("Incident not found with id: {}", id);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponse.notFound("No incident found with id: " + id));
+                }));
+    }
+
+    /**
+     * Creates a new AI incident
+     *
+     * @param incidentDTO The incident data to create
+     * @return Mono emitting the created incident id or validation error message
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<String>>> createIncident(@RequestBody AIIncidentCreateDTO incidentDTO) {
+        var validationResult = validator.validate(incidentDTO);
+        if (!validationResult.isValid()) {
+            logger.debug("Validation failed: {}", validationResult.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(validationResult.getMessage())));
+        }
+
+        return service.createIncident(incidentDTO.toEntity())
+                .map(created -> {
+                    String incidentId = created.getId().toHexString();
+                    logger.debug("Created incident with id: {}", incidentId);
+                    return ResponseEntity.status(HttpStatus.CREATED)
+                            .body(ApiResponse.success(incidentId, "Incident created successfully with id: " + incidentId));
+                });
+    }
+
+    /**
+     * Deletes an incident by its ID in a single database round-trip
+     *
+     * @param id The ID of the incident to delete
+     * @return Mono emitting a success message or appropriate error message
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<String>>> deleteIncident(@PathVariable String id) {
+        if (!ObjectId.isValid(id)) {
+            logger.debug("Invalid ObjectId format: {}", id);
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid ID format. Please provide a valid MongoDB ObjectId")));
+        }
+
+        return service.deleteIncident(new ObjectId(id))
+                .map(deleted -> {
+                    if (!deleted) {
+                        logger.debug("Attempted to delete non-existent incident with id: {}", id);
+                        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(ApiResponse.<String>notFound("Cannot delete, no incident found with id: " + id));
+                    }
+                    logger.debug("Deleted incident with id: {}", id);
+                    return ResponseEntity.status(HttpStatus.OK)
+                            .body(ApiResponse.success(id, "Incident deleted successfully with id: " + id));
+                });
+    }
+
+    /**
+     * Exception handler for request body and parameter errors
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<String>> handleServerWebInputException(ServerWebInputException ex) {
+        logger.debug("Invalid request: {}", ex.getMessage());
+
+        Throwable cause = ex.getMostSpecificCause();
+        if (cause.getMessage() != null && cause.getMessage()
+                .contains("Cannot deserialize value of type `com.humanchain.logs.model.AIIncident$Severity`")) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(invalidSeverityMessage()));
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Invalid request format: " + ex.getReason()));
+    }
+
+    /**
+     * Builds the error message listing the allowed severity values
+     *
+     * @return Error message for an invalid severity
+     */
+    private static String invalidSeverityMessage() {
+        return "Invalid severity value. Allowed values are: " + AIIncident.Severity.allowedValues();
+    }
+}
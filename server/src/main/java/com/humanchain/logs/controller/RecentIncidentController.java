@@ -0,0 +1,84 @@
+package com.humanchain.logs.controller;
+
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.service.RecentIncidentIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for the live triage view over recent AI Incidents.
+ * Answers from the in-memory {@link RecentIncidentIndex} without querying
+ * the database. Only created when incidents.recent-index.enabled is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@RestController
+@Profile("!reactive")
+@ConditionalOnProperty(name = "incidents.recent-index.enabled", havingValue = "true")
+@RequestMapping("/incidents")
+public class RecentIncidentController {
+
+    private final RecentIncidentIndex index;
+
+    @Value("${incidents.page.max-size:500}")
+    private int maxLimit = 500;
+
+    /**
+     * Constructs a new RecentIncidentController with required dependencies
+     *
+     * @param index The in-memory index of recent incidents
+     */
+    public RecentIncidentController(RecentIncidentIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Finds recent incidents containing every word of the search text
+     *
+     * @param q        Optional search text matched against title and description
+     * @param severity Optional severity the incidents must have
+     * @param from     Optional lower bound (inclusive) of the reported timestamp
+     * @param to       Optional upper bound (inclusive) of the reported timestamp
+     * @param limit    Maximum number of incidents to return
+     * @return ResponseEntity containing the matching incidents, newest first,
+     *         or appropriate error message
+     */
+    @GetMapping("/recent")
+    public ResponseEntity<ApiResponse<List<AIIncidentDTO>>> searchRecentIncidents(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "50") int limit) {
+        AIIncident.Severity severityFilter;
+        try {
+            severityFilter = AIIncident.Severity.fromName(severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid severity value. Allowed values are: "
+                            + AIIncident.Severity.allowedValues()));
+        }
+
+        List<AIIncidentDTO> incidents = index.search(q, severityFilter, from, to, Math.max(1, Math.min(limit, maxLimit)))
+                .stream()
+                .map(AIIncidentDTO::fromEntity)
+                .collect(Collectors.toList());
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(incidents, "Successfully retrieved recent incidents"));
+    }
+}
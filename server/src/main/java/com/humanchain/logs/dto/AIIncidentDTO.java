@@ -43,6 +43,16 @@ public class AIIncidentDTO {
      */
     private LocalDateTime reportedAt;
 
+    /**
+     * Number of reports aggregated into the incident
+     */
+    private long occurrences;
+
+    /**
+     * Timestamp of the latest report, the reported timestamp for one report
+     */
+    private LocalDateTime lastSeenAt;
+
     /**
      * Converts an AIIncident entity to its DTO representation
      *
@@ -58,7 +68,9 @@ public class AIIncidentDTO {
                 entity.getTitle(),
                 entity.getDescription(),
                 entity.getSeverity(),
-                entity.getReportedAt());
+                entity.getReportedAt(),
+                entity.getOccurrences() != null ? entity.getOccurrences() : 1,
+                entity.getLastSeenAt() != null ? entity.getLastSeenAt() : entity.getReportedAt());
     }
 
     /**
@@ -0,0 +1,104 @@
+package com.humanchain.logs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFields;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for an AI Incident in a sparse listing.
+ * Carries only the fields requested with the fields parameter; fields
+ * that were not requested are left out of the serialized form.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AIIncidentSummaryDTO {
+    /**
+     * Unique identifier of the incident
+     */
+    private String id;
+
+    /**
+     * Title of the incident
+     */
+    private String title;
+
+    /**
+     * Description of the incident, or the start of it in preview mode
+     */
+    private String description;
+
+    /**
+     * Whether the description was cut to the preview length, only set in
+     * preview mode
+     */
+    private Boolean descriptionTruncated;
+
+    /**
+     * Severity level of the incident
+     */
+    private AIIncident.Severity severity;
+
+    /**
+     * Timestamp when the incident was reported
+     */
+    private LocalDateTime reportedAt;
+
+    /**
+     * Number of reports aggregated into the incident
+     */
+    private Long occurrences;
+
+    /**
+     * Timestamp of the latest report, the reported timestamp for one report
+     */
+    private LocalDateTime lastSeenAt;
+
+    /**
+     * Converts an AIIncident entity loaded with a sparse fieldset to its DTO
+     * representation. In preview mode the description was loaded with one
+     * character more than the preview length, which tells whether it was cut.
+     *
+     * @param entity The AIIncident entity to convert
+     * @param fields The requested fields
+     * @return AIIncidentSummaryDTO carrying the requested fields
+     */
+    public static AIIncidentSummaryDTO fromEntity(AIIncident entity, IncidentFields fields) {
+        AIIncidentSummaryDTO dto = new AIIncidentSummaryDTO();
+        dto.setId(entity.getId().toHexString());
+        if (fields.includes(IncidentFields.Field.TITLE)) {
+            dto.setTitle(entity.getTitle());
+        }
+        if (fields.includes(IncidentFields.Field.SEVERITY)) {
+            dto.setSeverity(entity.getSeverity());
+        }
+        if (fields.includes(IncidentFields.Field.REPORTED_AT)) {
+            dto.setReportedAt(entity.getReportedAt());
+        }
+        if (fields.includes(IncidentFields.Field.OCCURRENCES)) {
+            dto.setOccurrences(entity.getOccurrences() != null ? entity.getOccurrences() : 1);
+        }
+        if (fields.includes(IncidentFields.Field.LAST_SEEN_AT)) {
+            dto.setLastSeenAt(entity.getLastSeenAt() != null ? entity.getLastSeenAt() : entity.getReportedAt());
+        }
+        if (fields.isPreviewOnly()) {
+            String description = entity.getDescription() != null ? entity.getDescription() : "";
+            int limit = fields.getPreviewLength();
+            boolean truncated = description.codePointCount(0, description.length()) > limit;
+            dto.setDescription(truncated ? description.substring(0, description.offsetByCodePoints(0, limit)) : description);
+            dto.setDescriptionTruncated(truncated);
+        } else if (fields.includes(IncidentFields.Field.DESCRIPTION)) {
+            dto.setDescription(entity.getDescription());
+        }
+        return dto;
+    }
+}
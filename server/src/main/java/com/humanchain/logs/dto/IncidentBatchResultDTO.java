@@ -0,0 +1,98 @@
+package com.humanchain.logs.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of a batch incident creation.
+ * Reports the result of every submitted item in submission order, so that
+ * clients can retry only the items that failed.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentBatchResultDTO {
+    /**
+     * Number of items submitted
+     */
+    private int total;
+
+    /**
+     * Number of incidents created
+     */
+    private int created;
+
+    /**
+     * Number of items rejected by validation or by the database
+     */
+    private int failed;
+
+    /**
+     * Result of each submitted item, in submission order
+     */
+    private List<ItemResult> results;
+
+    /**
+     * Result of a single item of the batch
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        /**
+         * Zero-based position of the item in the submitted batch
+         */
+        private int index;
+
+        /**
+         * Id of the created incident, or null if the item failed
+         */
+        private String id;
+
+        /**
+         * Reason the item failed, or null if it was created
+         */
+        private String error;
+
+        /**
+         * Creates the result of a successfully created item
+         *
+         * @param index Position of the item in the batch
+         * @param id    Id of the created incident
+         * @return ItemResult carrying the id
+         */
+        public static ItemResult created(int index, String id) {
+            return new ItemResult(index, id, null);
+        }
+
+        /**
+         * Creates the result of a failed item
+         *
+         * @param index Position of the item in the batch
+         * @param error Reason the item failed
+         * @return ItemResult carrying the error
+         */
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, null, error);
+        }
+
+        /**
+         * Returns whether the item was created
+         *
+         * @return true if the item was created
+         */
+        @JsonIgnore
+        public boolean isCreated() {
+            return id != null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.humanchain.logs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of a batch incident deletion.
+ * Ids that are well-formed but not found are counted as requested but not
+ * deleted; malformed ids are listed and skipped.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentDeleteResultDTO {
+    /**
+     * Number of distinct well-formed ids submitted
+     */
+    private int requested;
+
+    /**
+     * Number of incidents deleted
+     */
+    private long deleted;
+
+    /**
+     * Submitted ids that are not valid ObjectIds
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> invalidIds;
+}
@@ -0,0 +1,70 @@
+package com.humanchain.logs.dto;
+
+import com.humanchain.logs.model.AIIncident;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a streamed incident event.
+ * Sent as the data of a server-sent event named after the event type.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentEventDTO {
+    /**
+     * What happened to the incident
+     */
+    private Type type;
+
+    /**
+     * Unique identifier of the incident
+     */
+    private String id;
+
+    /**
+     * The created incident, null for deletes
+     */
+    private AIIncidentDTO incident;
+
+    /**
+     * Creates the event for a created incident
+     *
+     * @param incident The created incident
+     * @return IncidentEventDTO carrying the incident
+     */
+    public static IncidentEventDTO created(AIIncident incident) {
+        return new IncidentEventDTO(Type.CREATED, incident.getId().toHexString(), AIIncidentDTO.fromEntity(incident));
+    }
+
+    /**
+     * Creates the event for a deleted incident
+     *
+     * @param id The ID of the deleted incident
+     * @return IncidentEventDTO carrying only the ID
+     */
+    public static IncidentEventDTO deleted(String id) {
+        return new IncidentEventDTO(Type.DELETED, id, null);
+    }
+
+    /**
+     * Enum representing the kinds of incident events
+     */
+    public enum Type {
+        CREATED,
+        DELETED;
+
+        /**
+         * Returns the name of the server-sent event
+         *
+         * @return Lower case type name, e.g. "created"
+         */
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.humanchain.logs.dto;
+
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentPage;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentSearchPage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data Transfer Object (DTO) for a page of AI Incidents.
+ * Carries the incidents of the page along with the continuation token
+ * clients pass back to fetch the following page. Used for both the listing
+ * and full-text search results. Items are {@link AIIncidentDTO}s, or
+ * {@link AIIncidentSummaryDTO}s when a sparse fieldset was requested.
+ *
+ * @param <T> Type of the items
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentPageDTO<T> {
+    /**
+     * Incidents on this page, newest first
+     */
+    private List<T> items;
+
+    /**
+     * Opaque token for the next page, or null when this is the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Whether more incidents follow this page
+     */
+    private boolean hasMore;
+
+    /**
+     * Converts an IncidentPage of complete incidents to its DTO representation
+     *
+     * @param page The IncidentPage to convert
+     * @return IncidentPageDTO representation of the page
+     */
+    public static IncidentPageDTO<AIIncidentDTO> fromPage(IncidentPage page) {
+        List<AIIncidentDTO> items = page.getItems().stream()
+                .map(AIIncidentDTO::fromEntity)
+                .collect(Collectors.toList());
+        return new IncidentPageDTO<>(
+                items,
+                page.hasMore() ? page.getNext().encode() : null,
+                page.hasMore());
+    }
+
+    /**
+     * Converts an IncidentPage to its DTO representation, with summaries
+     * carrying only the loaded fields when a sparse fieldset was requested
+     *
+     * @param page The IncidentPage to convert
+     * @return IncidentPageDTO representation of the page
+     */
+    public static IncidentPageDTO<?> fromSparsePage(IncidentPage page) {
+        IncidentFields fields = page.getFields();
+        if (fields == null) {
+            return fromPage(page);
+        }
+        List<AIIncidentSummaryDTO> items = page.getItems().stream()
+                .map(incident -> AIIncidentSummaryDTO.fromEntity(incident, fields))
+                .collect(Collectors.toList());
+        return new IncidentPageDTO<>(
+                items,
+                page.hasMore() ? page.getNext().encode() : null,
+                page.hasMore());
+    }
+
+    /**
+     * Converts an IncidentSearchPage to its DTO representation, keeping the
+     * relevance order of the hits
+     *
+     * @param page The IncidentSearchPage to convert
+     * @return IncidentPageDTO representation of the page
+     */
+    public static IncidentPageDTO<AIIncidentDTO> fromSearchPage(IncidentSearchPage page) {
+        List<AIIncidentDTO> items = page.getHits().stream()
+                .map(IncidentSearchHit::getIncident)
+                .map(AIIncidentDTO::fromEntity)
+                .collect(Collectors.toList());
+        return new IncidentPageDTO<>(
+                items,
+                page.hasMore() ? page.getNext().encode() : null,
+                page.hasMore());
+    }
+}
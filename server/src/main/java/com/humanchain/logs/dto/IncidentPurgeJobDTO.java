@@ -0,0 +1,120 @@
+package com.humanchain.logs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentPurgeJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for the progress of an incident purge job.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IncidentPurgeJobDTO {
+    /**
+     * Unique identifier of the job
+     */
+    private String id;
+
+    /**
+     * Current state of the job
+     */
+    private IncidentPurgeJob.Status status;
+
+    /**
+     * Severity the purged incidents have, or null for all severities
+     */
+    private AIIncident.Severity severity;
+
+    /**
+     * Lower bound (inclusive) of the purged reportedAt range
+     */
+    private LocalDateTime from;
+
+    /**
+     * Upper bound (inclusive) of the purged reportedAt range
+     */
+    private LocalDateTime to;
+
+    /**
+     * Number of incidents in the range when the job started, null while queued
+     */
+    private Long matched;
+
+    /**
+     * Number of incidents deleted so far
+     */
+    private long deleted;
+
+    /**
+     * Number of chunks deleted so far
+     */
+    private int chunks;
+
+    /**
+     * Share of the matched incidents deleted so far, between 0 and 100
+     */
+    private Double percent;
+
+    /**
+     * Timestamp when the job was submitted
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the job started running
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * Timestamp when the job stopped
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Reason the job failed
+     */
+    private String error;
+
+    /**
+     * Converts a purge job to its DTO
+     *
+     * @param job The job to convert
+     * @return IncidentPurgeJobDTO reflecting the job's current progress
+     */
+    public static IncidentPurgeJobDTO fromJob(IncidentPurgeJob job) {
+        long matched = job.getMatched();
+        long deleted = job.getDeleted();
+        Double percent = null;
+        if (job.getStatus() == IncidentPurgeJob.Status.COMPLETED) {
+            percent = 100.0;
+        } else if (matched > 0) {
+            percent = Math.min(100.0, Math.round(deleted * 1000.0 / matched) / 10.0);
+        } else if (matched == 0) {
+            percent = 100.0;
+        }
+        return new IncidentPurgeJobDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getFilter().getSeverity(),
+                job.getFilter().getFrom(),
+                job.getFilter().getTo(),
+                matched < 0 ? null : matched,
+                deleted,
+                job.getChunks(),
+                percent,
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError());
+    }
+}
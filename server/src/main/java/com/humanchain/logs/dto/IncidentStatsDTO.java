@@ -0,0 +1,120 @@
+package com.humanchain.logs.dto;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for incident statistics over a time range.
+ * Carries the counts per severity for the whole range and per time bucket.
+ * Buckets without incidents are omitted.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentStatsDTO {
+    /**
+     * Start (inclusive) of the covered range
+     */
+    private LocalDateTime from;
+
+    /**
+     * End (inclusive) of the covered range
+     */
+    private LocalDateTime to;
+
+    /**
+     * Width of the time buckets
+     */
+    private IncidentStatsBucket.Unit unit;
+
+    /**
+     * Number of incidents in the range
+     */
+    private long total;
+
+    /**
+     * Number of incidents in the range per severity
+     */
+    private Map<AIIncident.Severity, Long> bySeverity;
+
+    /**
+     * Non-empty time buckets, oldest first
+     */
+    private List<Bucket> buckets;
+
+    /**
+     * Incident counts of a single time bucket
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        /**
+         * Start of the bucket
+         */
+        private LocalDateTime start;
+
+        /**
+         * Number of incidents in the bucket
+         */
+        private long total;
+
+        /**
+         * Number of incidents in the bucket per severity
+         */
+        private Map<AIIncident.Severity, Long> bySeverity;
+    }
+
+    /**
+     * Builds the statistics from bucket counts sorted by bucket start
+     *
+     * @param from Start of the covered range
+     * @param to   End of the covered range
+     * @param unit Width of the time buckets
+     * @param rows Count per bucket and severity, oldest bucket first
+     * @return IncidentStatsDTO summarizing the rows
+     */
+    public static IncidentStatsDTO fromBuckets(LocalDateTime from, LocalDateTime to,
+                                               IncidentStatsBucket.Unit unit, List<IncidentStatsBucket> rows) {
+        Map<AIIncident.Severity, Long> bySeverity = emptyCounts();
+        List<Bucket> buckets = new ArrayList<>();
+        long total = 0;
+
+        Bucket current = null;
+        for (IncidentStatsBucket row : rows) {
+            if (row.getCount() <= 0) {
+                continue;
+            }
+            if (current == null || !current.getStart().equals(row.getBucket())) {
+                current = new Bucket(row.getBucket(), 0, emptyCounts());
+                buckets.add(current);
+            }
+            current.getBySeverity().merge(row.getSeverity(), row.getCount(), Long::sum);
+            current.setTotal(current.getTotal() + row.getCount());
+            bySeverity.merge(row.getSeverity(), row.getCount(), Long::sum);
+            total += row.getCount();
+        }
+
+        return new IncidentStatsDTO(from, to, unit, total, bySeverity, buckets);
+    }
+
+    private static Map<AIIncident.Severity, Long> emptyCounts() {
+        Map<AIIncident.Severity, Long> counts = new EnumMap<>(AIIncident.Severity.class);
+        for (AIIncident.Severity severity : AIIncident.Severity.values()) {
+            counts.put(severity, 0L);
+        }
+        return counts;
+    }
+}
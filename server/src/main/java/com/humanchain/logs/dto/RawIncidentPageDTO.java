@@ -0,0 +1,45 @@
+package com.humanchain.logs.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.humanchain.logs.model.RawIncidentPage;
+import com.humanchain.logs.serializer.RawIncidentPageSerializer;
+import org.bson.RawBsonDocument;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a page of AI Incidents still in BSON form.
+ * Serialized exactly like an {@link IncidentPageDTO} of {@link AIIncidentDTO}s,
+ * but every incident is written straight from the bytes the driver received,
+ * without an entity, a DTO or intermediate strings per incident.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@JsonSerialize(using = RawIncidentPageSerializer.class)
+public class RawIncidentPageDTO extends IncidentPageDTO<RawBsonDocument> {
+
+    /**
+     * Constructs a new RawIncidentPageDTO
+     *
+     * @param items      Incident documents on this page, newest first
+     * @param nextCursor Opaque token for the next page, or null for the last page
+     * @param hasMore    Whether more incidents follow this page
+     */
+    public RawIncidentPageDTO(List<RawBsonDocument> items, String nextCursor, boolean hasMore) {
+        super(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Converts a RawIncidentPage to its DTO representation
+     *
+     * @param page The RawIncidentPage to convert
+     * @return RawIncidentPageDTO representation of the page
+     */
+    public static RawIncidentPageDTO fromPage(RawIncidentPage page) {
+        return new RawIncidentPageDTO(
+                page.getItems(),
+                page.hasMore() ? page.getNext().encode() : null,
+                page.hasMore());
+    }
+}
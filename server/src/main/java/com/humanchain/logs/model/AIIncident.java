@@ -6,15 +6,28 @@ import com.humanchain.logs.serializer.ObjectIdSerializer;
 import com.humanchain.logs.serializer.ObjectIdDeserializer;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 /**
  * Entity class representing an AI Incident in the system.
  * This class maps to the 'incidents' collection in MongoDB.
+ * The compound indexes back the keyset-paginated listing, which sorts by
+ * reportedAt and id descending with an optional severity equality filter;
+ * the first one also serves plain reportedAt range and sort queries. Title
+ * and description share a text index used for full-text search. Incidents
+ * aggregating repeated reports carry a fingerprint, indexed together with
+ * the time of the latest report to find the aggregate to count a report on.
+ * Idempotency keys of created incidents are unique, so a retried create
+ * cannot insert a second incident.
  *
  * @author Vikas Singh
  * @since 1.0
@@ -23,6 +36,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "incidents")
+@CompoundIndexes({
+        @CompoundIndex(name = "reportedAt_id", def = "{'reportedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "severity_reportedAt_id", def = "{'severity': 1, 'reportedAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "fingerprint_lastSeenAt", def = "{'fingerprint': 1, 'lastSeenAt': -1}",
+                partialFilter = "{'fingerprint': {$exists: true}}"),
+        @CompoundIndex(name = "idempotencyKey", def = "{'idempotencyKey': 1}", unique = true,
+                partialFilter = "{'idempotencyKey': {$exists: true}}")
+})
 public class AIIncident {
     /**
      * Unique identifier for the incident
@@ -35,11 +56,13 @@ public class AIIncident {
     /**
      * Title of the incident
      */
+    @TextIndexed(weight = 2)
     private String title;
 
     /**
      * Detailed description of the incident
      */
+    @TextIndexed
     private String description;
 
     /**
@@ -52,10 +75,69 @@ public class AIIncident {
      */
     private LocalDateTime reportedAt = LocalDateTime.now();
 
+    /**
+     * Hash of the normalized title, description and severity, set when
+     * repeated reports are aggregated
+     */
+    private String fingerprint;
+
+    /**
+     * Number of reports aggregated into this incident, null for one report
+     */
+    private Long occurrences;
+
+    /**
+     * Timestamp of the latest aggregated report, null for one report
+     */
+    private LocalDateTime lastSeenAt;
+
+    /**
+     * Client-supplied key the incident was created with, if any
+     */
+    private String idempotencyKey;
+
+    /**
+     * Constructs a new AIIncident for a single report
+     *
+     * @param id          Unique identifier of the incident
+     * @param title       Title of the incident
+     * @param description Detailed description of the incident
+     * @param severity    Severity level of the incident
+     * @param reportedAt  Timestamp when the incident was reported
+     */
+    public AIIncident(ObjectId id, String title, String description, Severity severity, LocalDateTime reportedAt) {
+        this(id, title, description, severity, reportedAt, null, null, null, null);
+    }
+
     /**
      * Enum representing the severity levels of an incident
      */
     public enum Severity {
-        LOW, MEDIUM, HIGH
+        LOW, MEDIUM, HIGH;
+
+        /**
+         * Parses a severity name, ignoring case and surrounding whitespace
+         *
+         * @param name The severity name, may be null or blank
+         * @return The matching severity, or null when no name was given
+         * @throws IllegalArgumentException if the name is not a known severity
+         */
+        public static Severity fromName(String name) {
+            if (name == null || name.isBlank()) {
+                return null;
+            }
+            return valueOf(name.trim().toUpperCase());
+        }
+
+        /**
+         * Returns the allowed severity names as a comma separated list
+         *
+         * @return Allowed severity names, e.g. "LOW, MEDIUM, HIGH"
+         */
+        public static String allowedValues() {
+            return Arrays.stream(values())
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", "));
+        }
     }
 }
\ No newline at end of file
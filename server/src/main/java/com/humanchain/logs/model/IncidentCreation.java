@@ -0,0 +1,26 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.bson.types.ObjectId;
+
+/**
+ * Result of an idempotent incident creation.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class IncidentCreation {
+    /**
+     * ID of the incident created for the request
+     */
+    private ObjectId id;
+
+    /**
+     * Whether the incident was created by an earlier request with the same
+     * idempotency key
+     */
+    private boolean replayed;
+}
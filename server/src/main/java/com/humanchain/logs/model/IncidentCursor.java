@@ -0,0 +1,99 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position inside the incident listing.
+ * Incidents are ordered by reportedAt descending, then id descending, so the
+ * pair of both values of the last returned incident identifies where the next
+ * page starts. The cursor is handed to clients as an opaque URL-safe token.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class IncidentCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Reported timestamp of the last incident on the previous page
+     */
+    private LocalDateTime reportedAt;
+
+    /**
+     * Identifier of the last incident on the previous page
+     */
+    private ObjectId id;
+
+    /**
+     * Creates the cursor pointing right after the given incident
+     *
+     * @param incident The last incident of a page
+     * @return IncidentCursor positioned after the incident
+     */
+    public static IncidentCursor after(AIIncident incident) {
+        return new IncidentCursor(incident.getReportedAt(), incident.getId());
+    }
+
+    /**
+     * Creates the cursor pointing right after the given incident document.
+     * The reported timestamp is read in the default time zone, like the
+     * converter does when reading an AIIncident, and a missing one as the
+     * current time, the default of a new AIIncident.
+     *
+     * @param document The last incident document of a page
+     * @return IncidentCursor positioned after the incident
+     */
+    public static IncidentCursor after(RawBsonDocument document) {
+        LocalDateTime reportedAt = document.isDateTime("reportedAt")
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(document.getDateTime("reportedAt").getValue()),
+                        ZoneId.systemDefault())
+                : LocalDateTime.now();
+        return new IncidentCursor(reportedAt, document.getObjectId("_id").getValue());
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token
+     *
+     * @return URL-safe token representing this cursor
+     */
+    public String encode() {
+        String raw = reportedAt.toString() + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token previously produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded IncidentCursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static IncidentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            return new IncidentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    new ObjectId(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.humanchain.logs.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested for an incident listing. Only the requested
+ * fields are loaded from MongoDB and serialized; the id is always included.
+ * Instead of the full description a preview, cut to a configured number of
+ * characters by the database, can be requested.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Getter
+public final class IncidentFields {
+
+    /**
+     * Alias for the fields a list view needs
+     */
+    public static final String SUMMARY = "summary";
+
+    /**
+     * Fields that can be requested
+     */
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        DESCRIPTION("description"),
+        PREVIEW("preview"),
+        SEVERITY("severity"),
+        REPORTED_AT("reportedAt"),
+        OCCURRENCES("occurrences"),
+        LAST_SEEN_AT("lastSeenAt");
+
+        private final String paramName;
+
+        Field(String paramName) {
+            this.paramName = paramName;
+        }
+
+        /**
+         * Returns the name of the field in the fields parameter
+         *
+         * @return Parameter name, e.g. "reportedAt"
+         */
+        public String paramName() {
+            return paramName;
+        }
+    }
+
+    private static final Set<Field> SUMMARY_FIELDS =
+            EnumSet.of(Field.ID, Field.TITLE, Field.SEVERITY, Field.REPORTED_AT);
+
+    /**
+     * The requested fields
+     */
+    private final Set<Field> fields;
+
+    /**
+     * Maximum number of characters of a description preview
+     */
+    private final int previewLength;
+
+    private IncidentFields(Set<Field> fields, int previewLength) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.previewLength = previewLength;
+    }
+
+    /**
+     * Parses a comma separated list of field names, ignoring case and
+     * surrounding whitespace. "summary" stands for id, title, severity and
+     * reportedAt.
+     *
+     * @param spec The field names, may be null or blank
+     * @return The requested fields, or null when all fields are requested
+     * @throws IllegalArgumentException if a name is not a known field
+     */
+    public static IncidentFields parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return null;
+        }
+        Set<Field> fields = EnumSet.of(Field.ID);
+        for (String name : spec.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (SUMMARY.equalsIgnoreCase(trimmed)) {
+                fields.addAll(SUMMARY_FIELDS);
+                continue;
+            }
+            fields.add(Arrays.stream(Field.values())
+                    .filter(field -> field.paramName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + trimmed)));
+        }
+        return new IncidentFields(fields, 0);
+    }
+
+    /**
+     * Returns the same fields with the given preview length
+     *
+     * @param previewLength Maximum number of characters of a description preview
+     * @return IncidentFields with the preview length set
+     */
+    public IncidentFields withPreviewLength(int previewLength) {
+        return new IncidentFields(EnumSet.copyOf(fields), previewLength);
+    }
+
+    /**
+     * Returns whether a field was requested
+     *
+     * @param field The field to check
+     * @return true if the field is part of the fieldset
+     */
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Returns whether only a preview of the description was requested
+     *
+     * @return true if the preview but not the full description was requested
+     */
+    public boolean isPreviewOnly() {
+        return fields.contains(Field.PREVIEW) && !fields.contains(Field.DESCRIPTION);
+    }
+
+    /**
+     * Returns the allowed field names as a comma separated list
+     *
+     * @return Allowed field names, e.g. "summary, id, title, ..."
+     */
+    public static String allowedValues() {
+        return SUMMARY + ", " + Arrays.stream(Field.values())
+                .map(Field::paramName)
+                .collect(Collectors.joining(", "));
+    }
+}
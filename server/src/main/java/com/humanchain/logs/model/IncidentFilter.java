@@ -0,0 +1,48 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter criteria applied to incident listing queries.
+ * Every field is optional; a null field does not restrict the result.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentFilter {
+    /**
+     * Only incidents with this severity are returned
+     */
+    private AIIncident.Severity severity;
+
+    /**
+     * Lower bound (inclusive) of the reported timestamp
+     */
+    private LocalDateTime from;
+
+    /**
+     * Upper bound (inclusive) of the reported timestamp
+     */
+    private LocalDateTime to;
+
+    /**
+     * Case-insensitive substring the incident title must contain
+     */
+    private String title;
+
+    /**
+     * Creates a filter that matches every incident
+     *
+     * @return Empty IncidentFilter instance
+     */
+    public static IncidentFilter none() {
+        return new IncidentFilter();
+    }
+}
@@ -0,0 +1,52 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A single page of incidents returned by a keyset-paginated query.
+ * When a sparse fieldset was requested the incidents only carry those
+ * fields.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class IncidentPage {
+    /**
+     * Incidents on this page, newest first
+     */
+    private List<AIIncident> items;
+
+    /**
+     * Cursor pointing at the next page, or null when this is the last page
+     */
+    private IncidentCursor next;
+
+    /**
+     * Fields loaded for the incidents, or null when they are complete
+     */
+    private IncidentFields fields;
+
+    /**
+     * Constructs a page of complete incidents
+     *
+     * @param items Incidents on this page, newest first
+     * @param next  Cursor pointing at the next page, or null for the last page
+     */
+    public IncidentPage(List<AIIncident> items, IncidentCursor next) {
+        this(items, next, null);
+    }
+
+    /**
+     * Returns whether more incidents follow this page
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasMore() {
+        return next != null;
+    }
+}
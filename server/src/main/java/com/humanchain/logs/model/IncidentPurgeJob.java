@@ -0,0 +1,108 @@
+package com.humanchain.logs.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background job deleting every incident in a severity and reportedAt
+ * range, chunk by chunk. The job is updated by the purge thread and read by
+ * requests polling its progress, so its state is kept in volatile fields.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Getter
+public class IncidentPurgeJob {
+
+    /**
+     * Lifecycle states of a purge job
+     */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED;
+
+        /**
+         * Returns whether the job has stopped
+         *
+         * @return true for completed, cancelled and failed jobs
+         */
+        public boolean isFinished() {
+            return this == COMPLETED || this == CANCELLED || this == FAILED;
+        }
+    }
+
+    /**
+     * Unique identifier of the job
+     */
+    private final String id;
+
+    /**
+     * The range of incidents to delete
+     */
+    private final IncidentFilter filter;
+
+    /**
+     * Timestamp when the job was submitted
+     */
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long matched = -1;
+    private volatile long deleted;
+    private volatile int chunks;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+
+    /**
+     * Constructs a new queued IncidentPurgeJob
+     *
+     * @param id     Unique identifier of the job
+     * @param filter The range of incidents to delete
+     */
+    public IncidentPurgeJob(String id, IncidentFilter filter) {
+        this.id = id;
+        this.filter = filter;
+    }
+
+    /**
+     * Marks the job as running
+     *
+     * @param matched Number of incidents in the range when the job started
+     */
+    public void started(long matched) {
+        this.matched = matched;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    /**
+     * Records a deleted chunk
+     *
+     * @param count Number of incidents deleted by the chunk
+     */
+    public void chunkDeleted(long count) {
+        this.deleted += count;
+        this.chunks++;
+    }
+
+    /**
+     * Marks the job as stopped
+     *
+     * @param status The final status
+     * @param error  Reason the job failed, or null
+     */
+    public void finished(Status status, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    /**
+     * Asks the job to stop after the current chunk
+     */
+    public void cancel() {
+        this.cancelRequested = true;
+    }
+}
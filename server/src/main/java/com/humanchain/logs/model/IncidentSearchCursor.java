@@ -0,0 +1,73 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position inside full-text search results.
+ * Hits are ordered by relevance score descending, then id descending, so the
+ * score and id of the last returned hit identify where the next page starts.
+ * The cursor is handed to clients as an opaque URL-safe token.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class IncidentSearchCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Relevance score of the last hit on the previous page
+     */
+    private double score;
+
+    /**
+     * Identifier of the last hit on the previous page
+     */
+    private ObjectId id;
+
+    /**
+     * Creates the cursor pointing right after the given hit
+     *
+     * @param hit The last hit of a page
+     * @return IncidentSearchCursor positioned after the hit
+     */
+    public static IncidentSearchCursor after(IncidentSearchHit hit) {
+        return new IncidentSearchCursor(hit.getScore(), hit.getIncident().getId());
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token
+     *
+     * @return URL-safe token representing this cursor
+     */
+    public String encode() {
+        String raw = Double.toString(score) + SEPARATOR + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token previously produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded IncidentSearchCursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static IncidentSearchCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        return new IncidentSearchCursor(
+                Double.parseDouble(raw.substring(0, separator)),
+                new ObjectId(raw.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,26 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An incident matching a full-text search, with its relevance score.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentSearchHit {
+    /**
+     * The matching incident
+     */
+    private AIIncident incident;
+
+    /**
+     * Text search relevance score, higher is more relevant
+     */
+    private double score;
+}
@@ -0,0 +1,35 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A single page of full-text search hits, most relevant first.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class IncidentSearchPage {
+    /**
+     * Hits on this page, most relevant first
+     */
+    private List<IncidentSearchHit> hits;
+
+    /**
+     * Cursor pointing at the next page, or null when this is the last page
+     */
+    private IncidentSearchCursor next;
+
+    /**
+     * Returns whether more hits follow this page
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasMore() {
+        return next != null;
+    }
+}
@@ -0,0 +1,139 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Number of incidents of one severity reported within one time bucket.
+ * Aggregations over the incidents collection produce these rows, and when
+ * pre-aggregation is enabled they are also stored in the 'incident_stats'
+ * collection and kept current as incidents are created and deleted.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "incident_stats")
+@CompoundIndex(name = "unit_bucket_severity", def = "{'unit': 1, 'bucket': 1, 'severity': 1}", unique = true)
+public class IncidentStatsBucket {
+    /**
+     * Unique identifier of the stored bucket
+     */
+    @Id
+    private ObjectId id;
+
+    /**
+     * Width of the bucket
+     */
+    private Unit unit;
+
+    /**
+     * Start of the bucket
+     */
+    private LocalDateTime bucket;
+
+    /**
+     * Severity the count applies to
+     */
+    private AIIncident.Severity severity;
+
+    /**
+     * Number of incidents in the bucket
+     */
+    private long count;
+
+    /**
+     * Creates a bucket count without an identifier
+     *
+     * @param unit     Width of the bucket
+     * @param bucket   Start of the bucket
+     * @param severity Severity the count applies to
+     * @param count    Number of incidents in the bucket
+     * @return New IncidentStatsBucket instance
+     */
+    public static IncidentStatsBucket of(Unit unit, LocalDateTime bucket, AIIncident.Severity severity, long count) {
+        return new IncidentStatsBucket(null, unit, bucket, severity, count);
+    }
+
+    /**
+     * Enum representing the supported bucket widths
+     */
+    public enum Unit {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit chronoUnit;
+
+        Unit(ChronoUnit chronoUnit) {
+            this.chronoUnit = chronoUnit;
+        }
+
+        /**
+         * Truncates a timestamp to the start of its bucket
+         *
+         * @param timestamp The timestamp to truncate
+         * @return Start of the bucket containing the timestamp
+         */
+        public LocalDateTime truncate(LocalDateTime timestamp) {
+            return timestamp.truncatedTo(chronoUnit);
+        }
+
+        /**
+         * Counts the buckets needed to cover a time range
+         *
+         * @param from Start of the range
+         * @param to   End of the range
+         * @return Number of buckets overlapping the range
+         */
+        public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+            return chronoUnit.between(truncate(from), truncate(to)) + 1;
+        }
+
+        /**
+         * Returns the unit name used by the MongoDB date operators
+         *
+         * @return Lower case unit name, e.g. "hour"
+         */
+        public String mongoUnit() {
+            return name().toLowerCase();
+        }
+
+        /**
+         * Parses a unit name, ignoring case and surrounding whitespace
+         *
+         * @param name The unit name, may be null or blank
+         * @return The matching unit, or null when no name was given
+         * @throws IllegalArgumentException if the name is not a known unit
+         */
+        public static Unit fromName(String name) {
+            if (name == null || name.isBlank()) {
+                return null;
+            }
+            return valueOf(name.trim().toUpperCase());
+        }
+
+        /**
+         * Returns the allowed unit names as a comma separated list
+         *
+         * @return Allowed unit names, e.g. "MINUTE, HOUR, DAY"
+         */
+        public static String allowedValues() {
+            return Arrays.stream(values())
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of the incidents collection as a whole, used to validate cached
+ * listings and search results, or of a single incident. The token of the
+ * collection changes whenever an incident is created, deleted or counted
+ * again; the token of an incident whenever it is counted again.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentVersion {
+    /**
+     * Opaque token identifying the collection state
+     */
+    private String token;
+
+    /**
+     * When the token was first seen to change, at second precision
+     */
+    private Instant lastModified;
+
+    /**
+     * Returns the token as a weak entity tag. The tag is shared by every
+     * encoding of a response, such as gzip or CBOR, so it cannot be strong.
+     *
+     * @return Weak entity tag, e.g. W/"3f-12"
+     */
+    public String etag() {
+        return weakETag(token);
+    }
+
+    /**
+     * Returns the version of a single incident. Only repeated reports change
+     * a stored incident, so the token is its id and occurrence count, and it
+     * was last modified when it was last reported.
+     *
+     * @param incident The incident, as stored
+     * @return Version of the incident
+     */
+    public static IncidentVersion of(AIIncident incident) {
+        long occurrences = incident.getOccurrences() != null ? incident.getOccurrences() : 1;
+        LocalDateTime modified = incident.getLastSeenAt() != null ? incident.getLastSeenAt() : incident.getReportedAt();
+        Instant lastModified = modified != null
+                ? modified.atZone(ZoneId.systemDefault()).toInstant()
+                : incident.getId().getDate().toInstant();
+        return new IncidentVersion(incident.getId().toHexString() + "-" + occurrences, lastModified);
+    }
+
+    /**
+     * Formats a token as a weak entity tag
+     *
+     * @param token The token to tag
+     * @return Weak entity tag, e.g. W/"3f-12"
+     */
+    public static String weakETag(String token) {
+        return "W/\"" + token + "\"";
+    }
+}
@@ -0,0 +1,38 @@
+package com.humanchain.logs.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.bson.RawBsonDocument;
+
+import java.util.List;
+
+/**
+ * A single page of incidents as returned by the driver, before any decoding.
+ * Served instead of an {@link IncidentPage} when complete incidents are
+ * listed as JSON, so that they are written straight from their BSON bytes.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Data
+@AllArgsConstructor
+public class RawIncidentPage {
+    /**
+     * Incident documents on this page, newest first
+     */
+    private List<RawBsonDocument> items;
+
+    /**
+     * Cursor pointing at the next page, or null when this is the last page
+     */
+    private IncidentCursor next;
+
+    /**
+     * Returns whether more incidents follow this page
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasMore() {
+        return next != null;
+    }
+}
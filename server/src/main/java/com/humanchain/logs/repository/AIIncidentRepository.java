@@ -5,6 +5,16 @@ import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface AIIncidentRepository extends MongoRepository<AIIncident, ObjectId> {
-}
\ No newline at end of file
+public interface AIIncidentRepository extends MongoRepository<AIIncident, ObjectId>, AIIncidentRepositoryCustom {
+
+    /**
+     * Finds the incident created with the given idempotency key
+     *
+     * @param idempotencyKey The client-supplied key
+     * @return Optional containing the incident if one was created with the key
+     */
+    Optional<AIIncident> findByIdempotencyKey(String idempotencyKey);
+}
@@ -0,0 +1,205 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentSearchCursor;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom query operations for AI incidents that cannot be expressed as
+ * derived Spring Data repository methods.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public interface AIIncidentRepositoryCustom {
+
+    /**
+     * Finds incidents matching the filter, ordered by reportedAt and id
+     * descending, starting right after the given cursor
+     *
+     * @param filter The filter criteria to apply
+     * @param after  The cursor to seek past, or null to start at the newest
+     *               incident
+     * @param limit  Maximum number of incidents to return
+     * @return List of matching incidents, at most limit long
+     */
+    List<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit);
+
+    /**
+     * Finds a page of incidents like {@link #findPage(IncidentFilter, IncidentCursor, int)},
+     * loading only the requested fields. The id and reportedAt, which the
+     * cursor is built from, are always loaded. A description preview is cut
+     * by the database to one character more than the preview length, so
+     * that a cut description can be told apart.
+     *
+     * @param filter The filter criteria to apply
+     * @param after  The cursor to seek past, or null to start at the newest
+     *               incident
+     * @param limit  Maximum number of incidents to return
+     * @param fields The fields to load
+     * @return List of matching incidents carrying only the requested fields
+     */
+    List<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit, IncidentFields fields);
+
+    /**
+     * Finds a page of incidents like {@link #findPage(IncidentFilter, IncidentCursor, int)},
+     * returning the documents as the driver received them. Nothing is
+     * decoded or mapped to entities, so the documents can be serialized
+     * straight from their BSON bytes.
+     *
+     * @param filter The filter criteria to apply
+     * @param after  The cursor to seek past, or null to start at the newest
+     *               incident
+     * @param limit  Maximum number of incidents to return
+     * @return List of matching incident documents, at most limit long
+     */
+    List<RawBsonDocument> findRawPage(IncidentFilter filter, IncidentCursor after, int limit);
+
+    /**
+     * Finds incidents whose title or description match the search text,
+     * ordered by relevance score and id descending, starting right after the
+     * given cursor. Uses the text index on AIIncident.
+     *
+     * @param text   The search text, in MongoDB text search syntax
+     * @param filter The filter criteria applied on top of the text match
+     * @param after  The cursor to seek past, or null to start at the most
+     *               relevant hit
+     * @param limit  Maximum number of hits to return
+     * @return List of hits, at most limit long
+     */
+    List<IncidentSearchHit> search(String text, IncidentFilter filter, IncidentSearchCursor after, int limit);
+
+    /**
+     * Streams incidents matching the filter in ascending id order from an open
+     * database cursor, without materializing the result. The returned stream
+     * must be closed to release the cursor.
+     *
+     * @param filter    The filter criteria to apply
+     * @param afterId   Only incidents with an id greater than this are
+     *                  returned, or null to start at the first incident
+     * @param batchSize Number of documents fetched per cursor round-trip
+     * @return Stream of matching incidents
+     */
+    Stream<AIIncident> streamAll(IncidentFilter filter, ObjectId afterId, int batchSize);
+
+    /**
+     * Inserts the incidents with a single unordered bulk write, so a failing
+     * document does not stop the remaining ones from being written. Ids must
+     * already be assigned.
+     *
+     * @param incidents The incidents to insert
+     * @return Error message by position in the list for every incident that
+     *         could not be written; empty when all were written
+     */
+    Map<Integer, String> insertUnordered(List<AIIncident> incidents);
+
+    /**
+     * Deletes the incidents with the given ids in a single round-trip
+     *
+     * @param ids The IDs of the incidents to delete
+     * @return Number of incidents deleted
+     */
+    long removeAllById(Collection<ObjectId> ids);
+
+    /**
+     * Finds the next incidents matching the filter to purge, in listing
+     * order. Only the id and the fields change listeners read, severity and
+     * reportedAt, are loaded.
+     *
+     * @param filter The filter criteria to apply
+     * @param limit  Maximum number of incidents to return
+     * @return List of matching incidents, at most limit long
+     */
+    List<AIIncident> findPurgeChunk(IncidentFilter filter, int limit);
+
+    /**
+     * Counts the incidents matching the filter
+     *
+     * @param filter The filter criteria to apply
+     * @return Number of matching incidents
+     */
+    long countMatching(IncidentFilter filter);
+
+    /**
+     * Counts reports on the newest incident with the same fingerprint whose
+     * latest report is not older than the given time, or inserts the
+     * incident as a new aggregate when there is none, in one atomic upsert.
+     * The idempotency key of the report is only recorded on an insert. An
+     * update is counted in the collection version.
+     *
+     * @param incident The reported incident, with its fingerprint set
+     * @param reports  Number of reports to count
+     * @param seenAt   Timestamp of the latest report
+     * @param since    Oldest latest report an aggregate may have to count on it
+     * @return The aggregate after the update, with exactly reports
+     * occurrences if inserted
+     */
+    AIIncident upsertOccurrence(AIIncident incident, long reports, LocalDateTime seenAt, LocalDateTime since);
+
+    /**
+     * Adds report counts collected in memory to their aggregates with a
+     * single unordered bulk write, counted in the collection version. When
+     * fewer aggregates match than were given, the ids are looked up again to
+     * find the ones that were deleted in the meantime.
+     *
+     * @param deltas Aggregates by id, each with the number of reports to add
+     *               as occurrences and the time of the latest as lastSeenAt
+     * @return The deltas whose aggregate no longer exists, so their reports
+     * were not counted
+     */
+    List<AIIncident> addOccurrences(Collection<AIIncident> deltas);
+
+    /**
+     * Returns those of the given ids that belong to a stored incident, read
+     * from the id index on the primary
+     *
+     * @param ids The IDs to look up
+     * @return The IDs of incidents that exist
+     */
+    Set<ObjectId> findExistingIds(Collection<ObjectId> ids);
+
+    /**
+     * Deletes an incident and returns it, in a single round-trip
+     *
+     * @param id The ID of the incident to delete
+     * @return Optional containing the deleted incident if it existed
+     */
+    Optional<AIIncident> findAndRemoveById(ObjectId id);
+
+    /**
+     * Returns a token that changes whenever incidents are inserted, deleted
+     * or counted again, made of the highest id, the estimated document count
+     * and a counter of occurrence updates kept in a separate document. All
+     * three are read from the id index, collection metadata and that single
+     * document, without scanning incidents, with the read preference of the
+     * listing.
+     *
+     * @return Version token of the incidents collection
+     */
+    String collectionVersion();
+
+    /**
+     * Counts the incidents matching the filter per time bucket and severity
+     * with an aggregation pipeline. The filter is applied first, so a
+     * reportedAt range is served by the reportedAt index.
+     *
+     * @param filter The filter criteria to apply
+     * @param unit   Width of the time buckets
+     * @return Count per bucket and severity, oldest bucket first
+     */
+    List<IncidentStatsBucket> countByBucket(IncidentFilter filter, IncidentStatsBucket.Unit unit);
+}
@@ -0,0 +1,444 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.config.MongoClientProperties;
+import com.humanchain.logs.config.MongoDBConfig;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentSearchCursor;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate backed implementation of {@link AIIncidentRepositoryCustom}.
+ * Picked up by Spring Data as a fragment of {@link AIIncidentRepository}.
+ * Listing, search and statistics queries run on the listing template,
+ * which may send them to secondaries; everything else reads from the
+ * primary.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public class AIIncidentRepositoryImpl implements AIIncidentRepositoryCustom {
+
+    /**
+     * Sort order of the listing, matching the compound indexes on AIIncident
+     */
+    public static final Sort LISTING_SORT = Sort.by(Sort.Direction.DESC, "reportedAt", "_id");
+
+    /**
+     * Collection holding the counter of updates to stored incidents, which
+     * neither the highest id nor the document count reflect
+     */
+    static final String VERSION_COLLECTION = "incident_versions";
+
+    private static final String VERSION_ID = "incidents";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoTemplate listingTemplate;
+
+    private final WriteConcern deleteWriteConcern;
+
+    private final QueryMapper queryMapper;
+
+    /**
+     * Constructs a new AIIncidentRepositoryImpl
+     *
+     * @param mongoTemplate    The MongoTemplate used to run queries
+     * @param listingTemplate  The MongoTemplate used to run listing, search
+     *                         and statistics queries
+     * @param clientProperties The client properties with the delete write concern
+     */
+    public AIIncidentRepositoryImpl(MongoTemplate mongoTemplate,
+                                    @Qualifier(MongoDBConfig.LISTING_TEMPLATE) MongoTemplate listingTemplate,
+                                    MongoClientProperties clientProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.listingTemplate = listingTemplate;
+        this.deleteWriteConcern = MongoClientProperties.toWriteConcern(
+                clientProperties.getWriteConcern().getDelete());
+        this.queryMapper = new QueryMapper(listingTemplate.getConverter());
+    }
+
+    @Override
+    public List<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit) {
+        return listingTemplate.find(listingQuery(filter, after, limit), AIIncident.class);
+    }
+
+    @Override
+    public List<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit, IncidentFields fields) {
+        Query query = listingQuery(filter, after, limit);
+        project(query, fields);
+        return listingTemplate.find(query, AIIncident.class);
+    }
+
+    @Override
+    public List<RawBsonDocument> findRawPage(IncidentFilter filter, IncidentCursor after, int limit) {
+        Query query = listingQuery(filter, after, limit);
+        MongoPersistentEntity<?> entity = listingTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(AIIncident.class);
+        // Map enums and LocalDateTime values the way find() would before bypassing the converter
+        Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+        Document mappedSort = queryMapper.getMappedSort(query.getSortObject(), entity);
+        return listingTemplate.execute(AIIncident.class, collection -> collection
+                .withDocumentClass(RawBsonDocument.class)
+                .find(mappedQuery)
+                .sort(mappedSort)
+                .limit(limit)
+                .into(new ArrayList<>(limit)));
+    }
+
+    @Override
+    public List<IncidentSearchHit> search(String text, IncidentFilter filter, IncidentSearchCursor after, int limit) {
+        return listingTemplate.aggregate(searchAggregation(text, filter, after, limit), AIIncident.class,
+                        IncidentSearchHit.class)
+                .getMappedResults();
+    }
+
+    /**
+     * Builds the ranked full-text search pipeline
+     *
+     * @param text   The search text
+     * @param filter The filter criteria applied on top of the text match
+     * @param after  The cursor to seek past, may be null
+     * @param limit  Maximum number of hits to return
+     * @return Pipeline of hits sorted by score and id, both descending
+     */
+    public static Aggregation searchAggregation(String text, IncidentFilter filter, IncidentSearchCursor after,
+                                                int limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(text)));
+        stages.add(Aggregation.match(buildCriteria(filter, null)));
+        stages.add(Aggregation.project()
+                .and(Aggregation.ROOT).as("incident")
+                .and(context -> new Document("$meta", "textScore")).as("score"));
+        if (after != null) {
+            stages.add(Aggregation.match(new Criteria().orOperator(
+                    Criteria.where("score").lt(after.getScore()),
+                    Criteria.where("score").is(after.getScore()).and("incident._id").lt(after.getId()))));
+        }
+        stages.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "score", "incident._id")));
+        stages.add(Aggregation.limit(limit));
+        return Aggregation.newAggregation(stages);
+    }
+
+    @Override
+    public Stream<AIIncident> streamAll(IncidentFilter filter, ObjectId afterId, int batchSize) {
+        Criteria criteria = buildCriteria(filter, null);
+        if (afterId != null) {
+            criteria = new Criteria().andOperator(criteria, Criteria.where("_id").gt(afterId));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, AIIncident.class);
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<AIIncident> incidents) {
+        if (incidents.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AIIncident.class)
+                    .insert(incidents)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    @Override
+    public AIIncident upsertOccurrence(AIIncident incident, long reports, LocalDateTime seenAt,
+                                       LocalDateTime since) {
+        Query query = Query.query(Criteria.where("fingerprint").is(incident.getFingerprint())
+                        .and("lastSeenAt").gte(since))
+                .with(Sort.by(Sort.Direction.DESC, "lastSeenAt"));
+        Update update = new Update()
+                .inc("occurrences", reports)
+                .max("lastSeenAt", seenAt)
+                .setOnInsert("title", incident.getTitle())
+                .setOnInsert("description", incident.getDescription())
+                .setOnInsert("severity", incident.getSeverity())
+                .setOnInsert("reportedAt", incident.getReportedAt());
+        if (incident.getIdempotencyKey() != null) {
+            update.setOnInsert("idempotencyKey", incident.getIdempotencyKey());
+        }
+        AIIncident aggregate = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), AIIncident.class);
+        if (aggregate != null && aggregate.getOccurrences() != null && aggregate.getOccurrences() > reports) {
+            countUpdate();
+        }
+        return aggregate;
+    }
+
+    @Override
+    public List<AIIncident> addOccurrences(Collection<AIIncident> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AIIncident.class);
+        for (AIIncident delta : deltas) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(delta.getId())), new Update()
+                    .inc("occurrences", delta.getOccurrences())
+                    .max("lastSeenAt", delta.getLastSeenAt()));
+        }
+        int matched = bulk.execute().getMatchedCount();
+        if (matched > 0) {
+            countUpdate();
+        }
+        if (matched == deltas.size()) {
+            return List.of();
+        }
+
+        Set<ObjectId> ids = findExistingIds(deltas.stream().map(AIIncident::getId).toList());
+        return deltas.stream()
+                .filter(delta -> !ids.contains(delta.getId()))
+                .toList();
+    }
+
+    @Override
+    public Set<ObjectId> findExistingIds(Collection<ObjectId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        Set<ObjectId> existing = new HashSet<>();
+        for (Document document : mongoTemplate.find(query, Document.class,
+                mongoTemplate.getCollectionName(AIIncident.class))) {
+            if (document.get("_id") instanceof ObjectId id) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Increments the counter of updates to stored incidents that is part of
+     * the collection version
+     */
+    private void countUpdate() {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(VERSION_ID)),
+                new Update().inc("updates", 1L), VERSION_COLLECTION);
+    }
+
+    @Override
+    public long removeAllById(Collection<ObjectId> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), AIIncident.class)
+                .getDeletedCount();
+    }
+
+    @Override
+    public List<AIIncident> findPurgeChunk(IncidentFilter filter, int limit) {
+        Query query = listingQuery(filter, null, limit);
+        query.fields().include("_id", "severity", "reportedAt");
+        return mongoTemplate.find(query, AIIncident.class);
+    }
+
+    @Override
+    public long countMatching(IncidentFilter filter) {
+        return listingTemplate.count(new Query(buildCriteria(filter, null)), AIIncident.class);
+    }
+
+    @Override
+    public Optional<AIIncident> findAndRemoveById(ObjectId id) {
+        if (deleteWriteConcern == null) {
+            return Optional.ofNullable(mongoTemplate.findAndRemove(
+                    Query.query(Criteria.where("_id").is(id)), AIIncident.class));
+        }
+        // findAndRemove bypasses the template's write concern resolver
+        Document removed = mongoTemplate.execute(AIIncident.class, collection -> collection
+                .withWriteConcern(deleteWriteConcern)
+                .findOneAndDelete(Filters.eq("_id", id)));
+        return Optional.ofNullable(removed)
+                .map(document -> mongoTemplate.getConverter().read(AIIncident.class, document));
+    }
+
+    @Override
+    public String collectionVersion() {
+        Query newest = new Query().with(Sort.by(Sort.Direction.DESC, "_id")).limit(1);
+        newest.fields().include("_id");
+        Document latest = listingTemplate.findOne(newest, Document.class, listingTemplate.getCollectionName(AIIncident.class));
+        Object latestId = latest != null ? latest.get("_id") : null;
+        String idPart = latestId instanceof ObjectId id ? id.toHexString() : "0";
+        Document counter = listingTemplate.findById(VERSION_ID, Document.class, VERSION_COLLECTION);
+        Object updates = counter != null ? counter.get("updates") : null;
+        return idPart + "-" + listingTemplate.estimatedCount(AIIncident.class)
+                + "-" + (updates instanceof Number number ? number.longValue() : 0);
+    }
+
+    @Override
+    public List<IncidentStatsBucket> countByBucket(IncidentFilter filter, IncidentStatsBucket.Unit unit) {
+        List<IncidentStatsBucket> rows = listingTemplate
+                .aggregate(statsAggregation(filter, unit), AIIncident.class, IncidentStatsBucket.class)
+                .getMappedResults();
+        rows.forEach(row -> row.setUnit(unit));
+        return rows;
+    }
+
+    /**
+     * Builds the pipeline counting incidents per time bucket and severity
+     *
+     * @param filter The filter criteria to apply, may be null
+     * @param unit   Width of the time buckets
+     * @return Pipeline of bucket counts sorted by bucket start
+     */
+    public static Aggregation statsAggregation(IncidentFilter filter, IncidentStatsBucket.Unit unit) {
+        return Aggregation.newAggregation(
+                Aggregation.match(buildCriteria(filter, null)),
+                Aggregation.project("severity").and(truncate("reportedAt", unit)).as("bucket"),
+                Aggregation.group("bucket", "severity").count().as("count"),
+                Aggregation.project("bucket", "severity", "count").andExclude("_id"),
+                Aggregation.sort(Sort.Direction.ASC, "bucket"));
+    }
+
+    /**
+     * Builds the expression truncating a date field to the start of its
+     * bucket. Buckets follow the default time zone, which is also the zone
+     * LocalDateTime values are stored in.
+     *
+     * @param field Name of the date field
+     * @param unit  Width of the time buckets
+     * @return Aggregation expression evaluating to the bucket start
+     */
+    static AggregationExpression truncate(String field, IncidentStatsBucket.Unit unit) {
+        return DateOperators.dateOf(field)
+                .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId()))
+                .truncate(unit.mongoUnit());
+    }
+
+    /**
+     * Builds the keyset-paginated listing query
+     *
+     * @param filter The filter criteria to apply, may be null
+     * @param after  The cursor to seek past, may be null
+     * @param limit  Maximum number of incidents to return
+     * @return Query sorted by {@link #LISTING_SORT}
+     */
+    public static Query listingQuery(IncidentFilter filter, IncidentCursor after, int limit) {
+        return new Query(buildCriteria(filter, after))
+                .with(LISTING_SORT)
+                .limit(limit);
+    }
+
+    /**
+     * Restricts the query to the requested fields, plus the id and
+     * reportedAt the cursor is built from
+     *
+     * @param query  The query to restrict
+     * @param fields The requested fields
+     */
+    static void project(Query query, IncidentFields fields) {
+        Field projection = query.fields().include("_id", "reportedAt");
+        if (fields.includes(IncidentFields.Field.TITLE)) {
+            projection.include("title");
+        }
+        if (fields.includes(IncidentFields.Field.SEVERITY)) {
+            projection.include("severity");
+        }
+        if (fields.includes(IncidentFields.Field.OCCURRENCES)) {
+            projection.include("occurrences");
+        }
+        if (fields.includes(IncidentFields.Field.LAST_SEEN_AT)) {
+            projection.include("lastSeenAt");
+        }
+        if (fields.includes(IncidentFields.Field.DESCRIPTION)) {
+            projection.include("description");
+        } else if (fields.includes(IncidentFields.Field.PREVIEW)) {
+            projection.project(MongoExpression.create("{ $substrCP: [ { $ifNull: ['$description', ''] }, 0, "
+                    + (fields.getPreviewLength() + 1) + " ] }")).as("description");
+        }
+    }
+
+    /**
+     * Builds the query criteria for the filter and keyset position
+     *
+     * @param filter The filter criteria to apply, may be null
+     * @param after  The cursor to seek past, may be null
+     * @return Criteria combining all restrictions
+     */
+    static Criteria buildCriteria(IncidentFilter filter, IncidentCursor after) {
+        List<Criteria> clauses = new ArrayList<>();
+
+        if (filter != null) {
+            if (filter.getSeverity() != null) {
+                clauses.add(Criteria.where("severity").is(filter.getSeverity()));
+            }
+            if (filter.getFrom() != null || filter.getTo() != null) {
+                Criteria range = Criteria.where("reportedAt");
+                if (filter.getFrom() != null) {
+                    range = range.gte(filter.getFrom());
+                }
+                if (filter.getTo() != null) {
+                    range = range.lte(filter.getTo());
+                }
+                clauses.add(range);
+            }
+            if (StringUtils.hasText(filter.getTitle())) {
+                clauses.add(Criteria.where("title")
+                        .regex(Pattern.quote(filter.getTitle().trim()), "i"));
+            }
+        }
+
+        if (after != null) {
+            clauses.add(new Criteria().orOperator(
+                    Criteria.where("reportedAt").lt(after.getReportedAt()),
+                    new Criteria().andOperator(
+                            Criteria.where("reportedAt").is(after.getReportedAt()),
+                            Criteria.where("_id").lt(after.getId()))));
+        }
+
+        if (clauses.isEmpty()) {
+            return new Criteria();
+        }
+        return new Criteria().andOperator(clauses);
+    }
+}
@@ -0,0 +1,11 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.IncidentStatsBucket;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IncidentStatsBucketRepository
+        extends MongoRepository<IncidentStatsBucket, ObjectId>, IncidentStatsBucketRepositoryCustom {
+}
@@ -0,0 +1,45 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentStatsBucket;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom operations on the pre-aggregated incident statistics.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public interface IncidentStatsBucketRepositoryCustom {
+
+    /**
+     * Finds the stored buckets of one width overlapping a time range
+     *
+     * @param unit     Width of the buckets
+     * @param from     Start of the range; the bucket containing it is included
+     * @param to       End of the range
+     * @param severity Only buckets of this severity are returned, or null for
+     *                 all severities
+     * @return Matching buckets, oldest first
+     */
+    List<IncidentStatsBucket> findBuckets(IncidentStatsBucket.Unit unit, LocalDateTime from,
+                                          LocalDateTime to, AIIncident.Severity severity);
+
+    /**
+     * Adds the count of every delta to its stored bucket with one unordered
+     * bulk of upserts, creating missing buckets
+     *
+     * @param deltas Count changes per unit, bucket and severity; counts may
+     *               be negative
+     */
+    void incrementCounts(Collection<IncidentStatsBucket> deltas);
+
+    /**
+     * Replaces all stored buckets with counts aggregated from the incidents
+     * collection
+     */
+    void rebuild();
+}
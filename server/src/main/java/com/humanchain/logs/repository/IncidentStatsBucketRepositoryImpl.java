@@ -0,0 +1,97 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.config.MongoDBConfig;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MongoTemplate backed implementation of {@link IncidentStatsBucketRepositoryCustom}.
+ * Picked up by Spring Data as a fragment of {@link IncidentStatsBucketRepository}.
+ * Buckets are read through the listing template, which may send the reads
+ * to secondaries.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public class IncidentStatsBucketRepositoryImpl implements IncidentStatsBucketRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoTemplate listingTemplate;
+
+    /**
+     * Constructs a new IncidentStatsBucketRepositoryImpl
+     *
+     * @param mongoTemplate   The MongoTemplate used to run queries
+     * @param listingTemplate The MongoTemplate used to read buckets
+     */
+    public IncidentStatsBucketRepositoryImpl(MongoTemplate mongoTemplate,
+                                             @Qualifier(MongoDBConfig.LISTING_TEMPLATE) MongoTemplate listingTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.listingTemplate = listingTemplate;
+    }
+
+    @Override
+    public List<IncidentStatsBucket> findBuckets(IncidentStatsBucket.Unit unit, LocalDateTime from,
+                                                 LocalDateTime to, AIIncident.Severity severity) {
+        Criteria criteria = Criteria.where("unit").is(unit)
+                .and("bucket").gte(unit.truncate(from)).lte(to);
+        if (severity != null) {
+            criteria = criteria.and("severity").is(severity);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "bucket"));
+        return listingTemplate.find(query, IncidentStatsBucket.class);
+    }
+
+    @Override
+    public void incrementCounts(Collection<IncidentStatsBucket> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, IncidentStatsBucket.class);
+        for (IncidentStatsBucket delta : deltas) {
+            Query query = Query.query(Criteria.where("unit").is(delta.getUnit())
+                    .and("bucket").is(delta.getBucket())
+                    .and("severity").is(delta.getSeverity()));
+            bulk.upsert(query, new Update().inc("count", delta.getCount()));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void rebuild() {
+        mongoTemplate.remove(new Query(), IncidentStatsBucket.class);
+        String collection = mongoTemplate.getCollectionName(IncidentStatsBucket.class);
+
+        for (IncidentStatsBucket.Unit unit : IncidentStatsBucket.Unit.values()) {
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.project("severity")
+                            .and(AIIncidentRepositoryImpl.truncate("reportedAt", unit)).as("bucket"),
+                    Aggregation.group("bucket", "severity").count().as("count"),
+                    Aggregation.project("bucket", "severity", "count").andExclude("_id")
+                            .and(LiteralOperators.Literal.asLiteral(unit.name())).as("unit"),
+                    Aggregation.merge()
+                            .intoCollection(collection)
+                            .on("unit", "bucket", "severity")
+                            .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                            .whenDocumentsDontMatch(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                            .build());
+            mongoTemplate.aggregate(aggregation, AIIncident.class, Document.class);
+        }
+    }
+}
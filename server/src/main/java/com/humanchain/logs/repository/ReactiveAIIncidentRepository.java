@@ -0,0 +1,27 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.AIIncident;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AIIncidentRepository}, used by the
+ * reactive profile.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Repository
+public interface ReactiveAIIncidentRepository
+        extends ReactiveMongoRepository<AIIncident, ObjectId>, ReactiveAIIncidentRepositoryCustom {
+
+    /**
+     * Deletes the incident with the given id in a single round-trip
+     *
+     * @param id The ID of the incident to delete
+     * @return Mono emitting the number of deleted incidents
+     */
+    Mono<Long> removeById(ObjectId id);
+}
@@ -0,0 +1,37 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Custom non-blocking query operations for AI incidents.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public interface ReactiveAIIncidentRepositoryCustom {
+
+    /**
+     * Finds incidents matching the filter, ordered by reportedAt and id
+     * descending, starting right after the given cursor
+     *
+     * @param filter The filter criteria to apply
+     * @param after  The cursor to seek past, or null to start at the newest
+     *               incident
+     * @param limit  Maximum number of incidents to return
+     * @return Flux of matching incidents, at most limit long
+     */
+    Flux<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit);
+
+    /**
+     * Streams every incident matching the filter in listing order. Documents
+     * are requested from the cursor as the subscriber consumes them.
+     *
+     * @param filter    The filter criteria to apply
+     * @param batchSize Number of documents fetched per cursor round-trip
+     * @return Flux of matching incidents
+     */
+    Flux<AIIncident> streamAll(IncidentFilter filter, int batchSize);
+}
@@ -0,0 +1,44 @@
+package com.humanchain.logs.repository;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFilter;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+/**
+ * ReactiveMongoTemplate backed implementation of
+ * {@link ReactiveAIIncidentRepositoryCustom}. Shares its query criteria with
+ * {@link AIIncidentRepositoryImpl}.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public class ReactiveAIIncidentRepositoryImpl implements ReactiveAIIncidentRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Constructs a new ReactiveAIIncidentRepositoryImpl
+     *
+     * @param mongoTemplate The ReactiveMongoTemplate used to run queries
+     */
+    public ReactiveAIIncidentRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<AIIncident> findPage(IncidentFilter filter, IncidentCursor after, int limit) {
+        return mongoTemplate.find(
+                AIIncidentRepositoryImpl.listingQuery(filter, after, limit), AIIncident.class);
+    }
+
+    @Override
+    public Flux<AIIncident> streamAll(IncidentFilter filter, int batchSize) {
+        Query query = new Query(AIIncidentRepositoryImpl.buildCriteria(filter, null))
+                .with(AIIncidentRepositoryImpl.LISTING_SORT)
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.find(query, AIIncident.class);
+    }
+}
@@ -0,0 +1,398 @@
+package com.humanchain.logs.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.dto.RawIncidentPageDTO;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Custom serializer for a page of incidents in BSON form.
+ * Walks the bytes of every incident document once to locate its fields and
+ * writes them to the generator in the order and format Jackson uses for an
+ * {@link AIIncidentDTO}: ids as hex strings, timestamps as ISO local date
+ * times in the default time zone, and the occurrences and lastSeenAt
+ * defaults of a single report. Strings are copied to UTF-8 output as they
+ * are stored, and ids and timestamps are formatted into one character
+ * buffer per page, so the only object created per incident is the buffer
+ * view onto its bytes.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public class RawIncidentPageSerializer extends JsonSerializer<RawIncidentPageDTO> {
+
+    private static final int ID = 0;
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int SEVERITY = 3;
+    private static final int REPORTED_AT = 4;
+    private static final int OCCURRENCES = 5;
+    private static final int LAST_SEEN_AT = 6;
+
+    private static final byte[][] DOCUMENT_FIELDS = {
+            utf8("_id"), utf8("title"), utf8("description"), utf8("severity"),
+            utf8("reportedAt"), utf8("occurrences"), utf8("lastSeenAt")
+    };
+
+    private static final SerializedString[] PROPERTIES = {
+            new SerializedString("id"), new SerializedString("title"), new SerializedString("description"),
+            new SerializedString("severity"), new SerializedString("reportedAt"),
+            new SerializedString("occurrences"), new SerializedString("lastSeenAt")
+    };
+
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializedString HAS_MORE = new SerializedString("hasMore");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Serializes a page of incident documents
+     *
+     * @param page        The page to serialize
+     * @param gen         The JsonGenerator to write the serialized value
+     * @param serializers The SerializerProvider
+     * @throws IOException if an I/O error occurs during serialization
+     */
+    @Override
+    public void serialize(RawIncidentPageDTO page, JsonGenerator gen, SerializerProvider serializers)
+            throws IOException {
+        Scratch scratch = new Scratch(gen);
+        gen.writeStartObject(page);
+        gen.writeFieldName(ITEMS);
+        gen.writeStartArray();
+        for (RawBsonDocument document : page.getItems()) {
+            writeIncident(document, gen, scratch);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(NEXT_CURSOR);
+        gen.writeString(page.getNextCursor());
+        gen.writeFieldName(HAS_MORE);
+        gen.writeBoolean(page.isHasMore());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes one incident document as an AIIncidentDTO object
+     *
+     * @param document The incident document
+     * @param gen      The JsonGenerator to write to
+     * @param scratch  Buffers reused across the documents of a page
+     * @throws IOException if an I/O error occurs during serialization
+     */
+    private static void writeIncident(RawBsonDocument document, JsonGenerator gen, Scratch scratch)
+            throws IOException {
+        ByteBuf buffer = document.getByteBuffer();
+        byte[] bson = buffer.array();
+        scratch.index(bson, buffer.position());
+
+        gen.writeStartObject();
+
+        gen.writeFieldName(PROPERTIES[ID]);
+        if (scratch.types[ID] != BsonType.OBJECT_ID) {
+            throw unexpectedType(ID, scratch.types[ID]);
+        }
+        writeObjectId(gen, bson, scratch.offsets[ID], scratch.chars);
+
+        writeStringProperty(TITLE, gen, bson, scratch);
+        writeStringProperty(DESCRIPTION, gen, bson, scratch);
+        writeStringProperty(SEVERITY, gen, bson, scratch);
+
+        // A missing timestamp is the current time, the default of a new AIIncident
+        String missingReportedAt = scratch.types[REPORTED_AT] == null
+                ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()) : null;
+        gen.writeFieldName(PROPERTIES[REPORTED_AT]);
+        writeReportedAt(gen, bson, scratch, missingReportedAt);
+
+        gen.writeFieldName(PROPERTIES[OCCURRENCES]);
+        gen.writeNumber(readOccurrences(bson, scratch));
+
+        gen.writeFieldName(PROPERTIES[LAST_SEEN_AT]);
+        BsonType lastSeenAt = scratch.types[LAST_SEEN_AT];
+        if (lastSeenAt == BsonType.DATE_TIME) {
+            writeDateTime(gen, readLong(bson, scratch.offsets[LAST_SEEN_AT]), scratch);
+        } else if (lastSeenAt == null || lastSeenAt == BsonType.NULL) {
+            writeReportedAt(gen, bson, scratch, missingReportedAt);
+        } else {
+            throw unexpectedType(LAST_SEEN_AT, lastSeenAt);
+        }
+
+        gen.writeEndObject();
+    }
+
+    private static void writeStringProperty(int field, JsonGenerator gen, byte[] bson, Scratch scratch)
+            throws IOException {
+        gen.writeFieldName(PROPERTIES[field]);
+        BsonType type = scratch.types[field];
+        if (type == null || type == BsonType.NULL) {
+            gen.writeNull();
+            return;
+        }
+        if (type != BsonType.STRING) {
+            throw unexpectedType(field, type);
+        }
+        int offset = scratch.offsets[field];
+        // The stored length counts the trailing NUL
+        int length = readInt(bson, offset) - 1;
+        if (scratch.utf8) {
+            gen.writeUTF8String(bson, offset + 4, length);
+        } else {
+            gen.writeString(new String(bson, offset + 4, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeReportedAt(JsonGenerator gen, byte[] bson, Scratch scratch, String missing)
+            throws IOException {
+        BsonType type = scratch.types[REPORTED_AT];
+        if (type == BsonType.DATE_TIME) {
+            writeDateTime(gen, readLong(bson, scratch.offsets[REPORTED_AT]), scratch);
+        } else if (type == null) {
+            gen.writeString(missing);
+        } else if (type == BsonType.NULL) {
+            gen.writeNull();
+        } else {
+            throw unexpectedType(REPORTED_AT, type);
+        }
+    }
+
+    private static long readOccurrences(byte[] bson, Scratch scratch) {
+        BsonType type = scratch.types[OCCURRENCES];
+        if (type == null || type == BsonType.NULL) {
+            return 1;
+        }
+        int offset = scratch.offsets[OCCURRENCES];
+        switch (type) {
+            case INT32:
+                return readInt(bson, offset);
+            case INT64:
+                return readLong(bson, offset);
+            case DOUBLE:
+                return (long) Double.longBitsToDouble(readLong(bson, offset));
+            default:
+                throw unexpectedType(OCCURRENCES, type);
+        }
+    }
+
+    private static void writeObjectId(JsonGenerator gen, byte[] bson, int offset, char[] chars)
+            throws IOException {
+        for (int i = 0; i < 12; i++) {
+            int b = bson[offset + i] & 0xFF;
+            chars[2 * i] = HEX_DIGITS[b >>> 4];
+            chars[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        gen.writeString(chars, 0, 24);
+    }
+
+    private static void writeDateTime(JsonGenerator gen, long epochMillis, Scratch scratch) throws IOException {
+        int length = formatDateTime(epochMillis, scratch.zoneRules, scratch.fixedOffset, scratch.chars);
+        if (length < 0) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), scratch.zone)));
+            return;
+        }
+        gen.writeString(scratch.chars, 0, length);
+    }
+
+    /**
+     * Formats a BSON date as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+     * does for the local date time in the given zone: seconds are always
+     * written, and the milliseconds only when not zero, without trailing
+     * zeros
+     *
+     * @param epochMillis Milliseconds since the epoch
+     * @param zoneRules   Rules of the time zone
+     * @param fixedOffset Offset of the zone if it is fixed, otherwise null
+     * @param chars       Buffer of at least 23 characters to format into
+     * @return Number of characters written, or -1 if the year has no four
+     *         digit representation
+     */
+    static int formatDateTime(long epochMillis, ZoneRules zoneRules, ZoneOffset fixedOffset, char[] chars) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+        ZoneOffset offset = fixedOffset != null ? fixedOffset : zoneRules.getOffset(Instant.ofEpochSecond(epochSecond));
+        long localSecond = epochSecond + offset.getTotalSeconds();
+        long epochDay = Math.floorDiv(localSecond, 86_400);
+        int secondOfDay = (int) Math.floorMod(localSecond, 86_400);
+
+        // Civil date of a day count, shifted to eras starting on March 1st
+        long days = epochDay + 719_468;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9_999) {
+            return -1;
+        }
+
+        writeDigits(chars, 0, (int) year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, secondOfDay / 3_600, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, secondOfDay / 60 % 60, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, secondOfDay % 60, 2);
+        if (millis == 0) {
+            return 19;
+        }
+        chars[19] = '.';
+        writeDigits(chars, 20, millis, 3);
+        int length = 23;
+        while (chars[length - 1] == '0') {
+            length--;
+        }
+        return length;
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int readInt(byte[] bson, int offset) {
+        return (bson[offset] & 0xFF)
+                | (bson[offset + 1] & 0xFF) << 8
+                | (bson[offset + 2] & 0xFF) << 16
+                | (bson[offset + 3] & 0xFF) << 24;
+    }
+
+    private static long readLong(byte[] bson, int offset) {
+        return (readInt(bson, offset) & 0xFFFFFFFFL) | (long) readInt(bson, offset + 4) << 32;
+    }
+
+    private static BsonSerializationException unexpectedType(int field, BsonType type) {
+        return new BsonSerializationException("Unexpected BSON type " + type + " of incident field "
+                + new String(DOCUMENT_FIELDS[field], StandardCharsets.UTF_8));
+    }
+
+    private static byte[] utf8(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Buffers and settings shared by the documents of one page
+     */
+    private static final class Scratch {
+        private final int[] offsets = new int[DOCUMENT_FIELDS.length];
+        private final BsonType[] types = new BsonType[DOCUMENT_FIELDS.length];
+        private final char[] chars = new char[24];
+        private final boolean utf8;
+        private final ZoneId zone;
+        private final ZoneRules zoneRules;
+        private final ZoneOffset fixedOffset;
+
+        private Scratch(JsonGenerator gen) {
+            // Other generators may not accept pre-encoded strings
+            this.utf8 = gen instanceof UTF8JsonGenerator;
+            this.zone = ZoneId.systemDefault();
+            this.zoneRules = zone.getRules();
+            this.fixedOffset = zoneRules.isFixedOffset() ? zoneRules.getOffset(Instant.EPOCH) : null;
+        }
+
+        /**
+         * Records the type and value offset of the incident fields of a
+         * document, skipping all other fields
+         *
+         * @param bson  The bytes holding the document
+         * @param start Offset of the document in the bytes
+         */
+        private void index(byte[] bson, int start) {
+            Arrays.fill(types, null);
+            int position = start + 4;
+            while (bson[position] != 0) {
+                BsonType type = BsonType.findByValue(bson[position++]);
+                int nameStart = position;
+                while (bson[position] != 0) {
+                    position++;
+                }
+                int field = fieldOf(bson, nameStart, position);
+                position++;
+                if (field >= 0) {
+                    types[field] = type;
+                    offsets[field] = position;
+                }
+                position += valueLength(bson, position, type);
+            }
+        }
+
+        private static int fieldOf(byte[] bson, int nameStart, int nameEnd) {
+            for (int field = 0; field < DOCUMENT_FIELDS.length; field++) {
+                byte[] name = DOCUMENT_FIELDS[field];
+                if (Arrays.equals(bson, nameStart, nameEnd, name, 0, name.length)) {
+                    return field;
+                }
+            }
+            return -1;
+        }
+
+        private static int valueLength(byte[] bson, int offset, BsonType type) {
+            if (type == null) {
+                throw new BsonSerializationException("Unknown BSON type in incident document");
+            }
+            switch (type) {
+                case DOUBLE:
+                case DATE_TIME:
+                case TIMESTAMP:
+                case INT64:
+                    return 8;
+                case STRING:
+                case JAVASCRIPT:
+                case SYMBOL:
+                    return 4 + readInt(bson, offset);
+                case DOCUMENT:
+                case ARRAY:
+                case JAVASCRIPT_WITH_SCOPE:
+                    return readInt(bson, offset);
+                case BINARY:
+                    return 5 + readInt(bson, offset);
+                case OBJECT_ID:
+                    return 12;
+                case BOOLEAN:
+                    return 1;
+                case INT32:
+                    return 4;
+                case DECIMAL128:
+                    return 16;
+                case DB_POINTER:
+                    return 4 + readInt(bson, offset) + 12;
+                case REGULAR_EXPRESSION:
+                    int end = offset;
+                    for (int terminators = 0; terminators < 2; end++) {
+                        if (bson[end] == 0) {
+                            terminators++;
+                        }
+                    }
+                    return end - offset;
+                default:
+                    // NULL, UNDEFINED, MIN_KEY and MAX_KEY have no value bytes
+                    return 0;
+            }
+        }
+    }
+}
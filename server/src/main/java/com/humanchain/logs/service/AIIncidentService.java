@@ -1,12 +1,29 @@
 package com.humanchain.logs.service;
 
 import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCreation;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPage;
+import com.humanchain.logs.model.IncidentSearchCursor;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentSearchPage;
+import com.humanchain.logs.model.RawIncidentPage;
 import com.humanchain.logs.repository.AIIncidentRepository;
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service layer for AI Incident operations.
@@ -18,8 +35,28 @@ import java.util.Optional;
 @Service
 public class AIIncidentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AIIncidentService.class);
+
     private final AIIncidentRepository repository;
 
+    private IncidentIngestQueue ingestQueue;
+    private IncidentCache cache;
+    private IncidentDeduplicator deduplicator;
+    private IdempotencyKeyCache idempotencyKeys;
+    private List<IncidentChangeListener> changeListeners = List.of();
+
+    @Value("${incidents.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${incidents.page.max-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${incidents.search.max-query-length:256}")
+    private int maxQueryLength = 256;
+
+    @Value("${incidents.page.preview-length:160}")
+    private int previewLength = 160;
+
     /**
      * Constructs a new AIIncidentService with required repository
      *
@@ -30,40 +67,422 @@ public class AIIncidentService {
     }
 
     /**
-     * Retrieves all incidents from the database
+     * Enables asynchronous ingestion through the given write-behind queue.
+     * Only called when the queue bean exists.
+     *
+     * @param ingestQueue The queue incidents are written through
+     */
+    @Autowired(required = false)
+    public void setIngestQueue(IncidentIngestQueue ingestQueue) {
+        this.ingestQueue = ingestQueue;
+    }
+
+    /**
+     * Enables the read-through cache for lookups by id. Only called when the
+     * cache bean exists.
+     *
+     * @param cache The cache lookups by id go through
+     */
+    @Autowired(required = false)
+    public void setCache(IncidentCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Enables aggregation of repeated reports into one incident. Only called
+     * when the deduplicator bean exists.
+     *
+     * @param deduplicator The deduplicator reports are recorded through
+     */
+    @Autowired(required = false)
+    public void setDeduplicator(IncidentDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * Enables the table of recently used idempotency keys, which collapses
+     * concurrent creates with the same key. Only called when the table bean
+     * exists.
+     *
+     * @param idempotencyKeys The table keyed creates are claimed in
+     */
+    @Autowired(required = false)
+    public void setIdempotencyKeys(IdempotencyKeyCache idempotencyKeys) {
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    /**
+     * Registers the listeners notified of created and deleted incidents. Only
+     * called when at least one listener bean exists.
+     *
+     * @param changeListeners The listeners to notify
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<IncidentChangeListener> changeListeners) {
+        this.changeListeners = changeListeners;
+    }
+
+    /**
+     * Retrieves one page of incidents matching the filter, newest first.
+     * One extra incident is fetched to find out whether a next page exists
+     * without issuing a separate count query.
+     *
+     * @param filter The filter criteria to apply
+     * @param cursor Continuation token of the previous page, or null for the
+     *               first page
+     * @param limit  Requested page size, or null for the default size
+     * @return The requested page of incidents
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public IncidentPage getAllIncidents(IncidentFilter filter, String cursor, Integer limit) {
+        return getAllIncidents(filter, cursor, limit, null);
+    }
+
+    /**
+     * Retrieves one page of incidents matching the filter, newest first,
+     * loading only the requested fields. A requested description preview is
+     * cut to the configured preview length.
+     *
+     * @param filter The filter criteria to apply
+     * @param cursor Continuation token of the previous page, or null for the
+     *               first page
+     * @param limit  Requested page size, or null for the default size
+     * @param fields The fields to load, or null for complete incidents
+     * @return The requested page of incidents
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public IncidentPage getAllIncidents(IncidentFilter filter, String cursor, Integer limit, IncidentFields fields) {
+        int pageSize = resolvePageSize(limit);
+        IncidentCursor after = cursor == null || cursor.isBlank() ? null : IncidentCursor.decode(cursor);
+
+        IncidentFields loaded = fields != null ? fields.withPreviewLength(previewLength) : null;
+        List<AIIncident> incidents = loaded != null
+                ? repository.findPage(filter, after, pageSize + 1, loaded)
+                : repository.findPage(filter, after, pageSize + 1);
+        if (incidents.size() <= pageSize) {
+            return new IncidentPage(incidents, null, loaded);
+        }
+
+        List<AIIncident> items = incidents.subList(0, pageSize);
+        return new IncidentPage(items, IncidentCursor.after(items.get(pageSize - 1)), loaded);
+    }
+
+    /**
+     * Retrieves one page of complete incidents matching the filter like
+     * {@link #getAllIncidents(IncidentFilter, String, Integer)}, keeping the
+     * documents in the BSON form the driver received them in
+     *
+     * @param filter The filter criteria to apply
+     * @param cursor Continuation token of the previous page, or null for the
+     *               first page
+     * @param limit  Requested page size, or null for the default size
+     * @return The requested page of incident documents
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public RawIncidentPage getRawIncidents(IncidentFilter filter, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        IncidentCursor after = cursor == null || cursor.isBlank() ? null : IncidentCursor.decode(cursor);
+
+        List<RawBsonDocument> documents = repository.findRawPage(filter, after, pageSize + 1);
+        if (documents.size() <= pageSize) {
+            return new RawIncidentPage(documents, null);
+        }
+
+        List<RawBsonDocument> items = documents.subList(0, pageSize);
+        return new RawIncidentPage(items, IncidentCursor.after(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Searches the title and description of incidents, most relevant first.
+     * Like the listing, one extra hit is fetched to find out whether a next
+     * page exists.
      *
-     * @return List of all incidents
+     * @param text   The search text; words are matched after stemming and a
+     *               quoted phrase must match exactly
+     * @param filter The filter criteria applied on top of the text match
+     * @param cursor Continuation token of the previous page, or null for the
+     *               first page
+     * @param limit  Requested page size, or null for the default size
+     * @return The requested page of hits
+     * @throws IllegalArgumentException if the text is blank or too long, or
+     *                                  the cursor is malformed
      */
-    public List<AIIncident> getAllIncidents() {
-        return repository.findAll();
+    public IncidentSearchPage searchIncidents(String text, IncidentFilter filter, String cursor, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be empty");
+        }
+        if (text.length() > maxQueryLength) {
+            throw new IllegalArgumentException(
+                    "Search text too long. At most " + maxQueryLength + " characters are accepted");
+        }
+        int pageSize = resolvePageSize(limit);
+        IncidentSearchCursor after = cursor == null || cursor.isBlank() ? null : IncidentSearchCursor.decode(cursor);
+
+        List<IncidentSearchHit> hits = repository.search(text.trim(), filter, after, pageSize + 1);
+        if (hits.size() <= pageSize) {
+            return new IncidentSearchPage(hits, null);
+        }
+
+        List<IncidentSearchHit> items = hits.subList(0, pageSize);
+        return new IncidentSearchPage(items, IncidentSearchCursor.after(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Clamps the requested page size into the configured bounds
+     *
+     * @param limit Requested page size, or null for the default size
+     * @return Page size between 1 and the configured maximum
+     */
+    int resolvePageSize(Integer limit) {
+        if (limit == null || limit < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
     }
 
     /**
-     * Retrieves a specific incident by its ID
+     * Retrieves a specific incident by its ID, through the cache when enabled
      *
      * @param id The ID of the incident to retrieve
      * @return Optional containing the incident if found
      */
     public Optional<AIIncident> getIncidentById(ObjectId id) {
-        return repository.findById(id);
+        if (cache == null) {
+            return repository.findById(id);
+        }
+        return cache.get(id, repository::findById);
     }
 
     /**
-     * Creates a new incident in the database
+     * Creates a new incident in the database. When deduplication is enabled
+     * a repeated report is counted on the incident it repeats instead, and
+     * that incident is returned; listeners are only notified of new ones.
      *
      * @param incident The incident to create
-     * @return The created incident with generated ID
+     * @return The created incident with generated ID, or the incident the
+     *         report was counted on
      */
     public AIIncident createIncident(AIIncident incident) {
-        return repository.save(incident);
+        AIIncident created;
+        if (deduplicator != null) {
+            IncidentDeduplicator.Outcome outcome = deduplicator.ingest(incident);
+            if (!outcome.created()) {
+                return outcome.incident();
+            }
+            created = outcome.incident();
+        } else {
+            created = repository.save(incident);
+        }
+        if (cache != null) {
+            cache.put(created);
+        }
+        changeListeners.forEach(listener -> listener.incidentsCreated(List.of(created)));
+        return created;
+    }
+
+    /**
+     * Creates a new incident at most once per idempotency key. A create with
+     * a key that was already used returns the incident created with it.
+     * Concurrent creates with the same key wait for the first one instead of
+     * writing; a key no longer held in memory is caught by the unique index,
+     * and the incident holding it is looked up.
+     *
+     * @param incident       The incident to create
+     * @param idempotencyKey The client-supplied key, or null to always create
+     * @return The id of the created incident and whether it was created by
+     *         an earlier request
+     */
+    public IncidentCreation createIncident(AIIncident incident, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return new IncidentCreation(createIncident(incident).getId(), false);
+        }
+        incident.setIdempotencyKey(idempotencyKey);
+        if (idempotencyKeys == null) {
+            return createOnce(incident);
+        }
+
+        CompletableFuture<ObjectId> pending = new CompletableFuture<>();
+        CompletableFuture<ObjectId> existing = idempotencyKeys.claim(idempotencyKey, pending);
+        if (existing != null) {
+            return new IncidentCreation(IdempotencyKeyCache.await(existing), true);
+        }
+        try {
+            IncidentCreation creation = createOnce(incident);
+            pending.complete(creation.getId());
+            return creation;
+        } catch (RuntimeException e) {
+            idempotencyKeys.release(idempotencyKey, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates an incident carrying an idempotency key, falling back to the
+     * incident already holding the key when the unique index rejects it
+     *
+     * @param incident The incident to create
+     * @return The id of the incident holding the key and whether it existed
+     */
+    private IncidentCreation createOnce(AIIncident incident) {
+        try {
+            return new IncidentCreation(createIncident(incident).getId(), false);
+        } catch (DuplicateKeyException e) {
+            return repository.findByIdempotencyKey(incident.getIdempotencyKey())
+                    .map(existing -> new IncidentCreation(existing.getId(), true))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Returns whether incidents are ingested asynchronously
+     *
+     * @return true if {@link #enqueueIncident(AIIncident)} should be used
+     */
+    public boolean isAsyncIngestEnabled() {
+        return ingestQueue != null;
+    }
+
+    /**
+     * Assigns an id to the incident and hands it to the write-behind queue.
+     * The incident is written to the database later, in a bulk insert; it is
+     * cached right away so that reading it back by id works before then, and
+     * evicted by the queue if it cannot be written.
+     *
+     * @param incident The incident to create
+     * @return true if the incident was accepted, false if the queue is full
+     * @throws IllegalStateException if asynchronous ingestion is disabled
+     */
+    public boolean enqueueIncident(AIIncident incident) {
+        return enqueue(incident, new ObjectId());
+    }
+
+    private boolean enqueue(AIIncident incident, ObjectId id) {
+        if (ingestQueue == null) {
+            throw new IllegalStateException("Asynchronous ingestion is disabled");
+        }
+        incident.setId(id);
+        // Cached before the writer can see it, so an eviction after a failed write is final
+        if (cache != null) {
+            cache.put(incident);
+        }
+        if (!ingestQueue.offer(incident)) {
+            if (cache != null) {
+                cache.invalidate(id);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hands the incident to the write-behind queue at most once per
+     * idempotency key held in memory. The key is claimed with the assigned
+     * id, so a repeated request is answered with that id; the unique index
+     * rejects a duplicate the table no longer holds when the queue flushes.
+     *
+     * @param incident       The incident to create
+     * @param idempotencyKey The client-supplied key, or null to always enqueue
+     * @return The assigned id and whether it was assigned to an earlier
+     *         request, or empty if the queue is full
+     * @throws IllegalStateException if asynchronous ingestion is disabled
+     */
+    public Optional<IncidentCreation> enqueueIncident(AIIncident incident, String idempotencyKey) {
+        if (ingestQueue == null) {
+            throw new IllegalStateException("Asynchronous ingestion is disabled");
+        }
+        incident.setIdempotencyKey(idempotencyKey);
+        ObjectId id = new ObjectId();
+        if (idempotencyKey == null || idempotencyKeys == null) {
+            return enqueue(incident, id) ? Optional.of(new IncidentCreation(id, false)) : Optional.empty();
+        }
+
+        CompletableFuture<ObjectId> assigned = CompletableFuture.completedFuture(id);
+        CompletableFuture<ObjectId> existing = idempotencyKeys.claim(idempotencyKey, assigned);
+        if (existing != null) {
+            return Optional.of(new IncidentCreation(IdempotencyKeyCache.await(existing), true));
+        }
+        if (!enqueue(incident, id)) {
+            idempotencyKeys.release(idempotencyKey, assigned);
+            return Optional.empty();
+        }
+        return Optional.of(new IncidentCreation(id, false));
     }
 
     /**
-     * Deletes an incident by its ID
+     * Deletes an incident by its ID in a single round-trip. When change
+     * listeners are registered the incident is returned by the delete, so
+     * they can be notified without another round-trip.
      *
      * @param id The ID of the incident to delete
+     * @return true if the incident existed and was deleted
      */
-    public void deleteIncident(ObjectId id) {
-        repository.deleteById(id);
+    public boolean deleteIncident(ObjectId id) {
+        boolean deleted;
+        if (!changeListeners.isEmpty()) {
+            Optional<AIIncident> removed = repository.findAndRemoveById(id);
+            removed.ifPresent(incident -> changeListeners.forEach(listener -> listener.incidentDeleted(incident)));
+            deleted = removed.isPresent();
+        } else {
+            deleted = repository.removeAllById(List.of(id)) > 0;
+        }
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the incidents with the given IDs in one delete. When change
+     * listeners are registered the incidents are read first, so that they
+     * can be notified.
+     *
+     * @param ids The IDs of the incidents to delete
+     * @return Number of incidents deleted
+     */
+    public long deleteIncidents(Collection<ObjectId> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (!changeListeners.isEmpty()) {
+            return deleteLoaded(repository.findAllById(ids));
+        }
+        long deleted = repository.removeAllById(ids);
+        invalidate(ids);
+        return deleted;
+    }
+
+    /**
+     * Deletes incidents that were read beforehand and notifies the change
+     * listeners of them. When fewer are deleted than were read, because
+     * another request or the TTL monitor removed some in between, the delete
+     * cannot tell which ones it removed, and listeners are notified through
+     * {@link IncidentChangeListener#incidentsDeletedConcurrently} instead.
+     *
+     * @param incidents The incidents to delete, with at least their id,
+     *                  severity and reportedAt
+     * @return Number of incidents deleted
+     */
+    long deleteLoaded(List<AIIncident> incidents) {
+        if (incidents.isEmpty()) {
+            return 0;
+        }
+        List<ObjectId> ids = incidents.stream().map(AIIncident::getId).toList();
+        long deleted = repository.removeAllById(ids);
+        invalidate(ids);
+        if (deleted == incidents.size()) {
+            changeListeners.forEach(listener -> listener.incidentsDeleted(incidents));
+        } else {
+            logger.debug("Deleted {} of {} incidents, the others were removed concurrently",
+                    deleted, incidents.size());
+            changeListeners.forEach(listener -> listener.incidentsDeletedConcurrently(incidents));
+        }
+        return deleted;
+    }
+
+    private void invalidate(Collection<ObjectId> ids) {
+        if (cache != null) {
+            ids.forEach(cache::invalidate);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.humanchain.logs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Short-lived in-process table of recently used idempotency keys, backed by
+ * Caffeine. A key maps to the id of the incident created with it, or to a
+ * pending result while that incident is being written, so concurrent and
+ * retried creates with the same key are answered without another write or
+ * lookup. Keys the table no longer holds are still protected by the unique
+ * index on the incidents. Only created when incidents.idempotency.cache-enabled
+ * is not false.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.idempotency.cache-enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyKeyCache {
+
+    private final Cache<String, CompletableFuture<ObjectId>> keys;
+    private final Counter replayCounter;
+
+    /**
+     * Constructs a new IdempotencyKeyCache
+     *
+     * @param meterRegistry The registry the replay metric is published to
+     * @param maximumSize   Maximum number of keys kept
+     * @param ttl           Time a key is kept after it was claimed
+     */
+    public IdempotencyKeyCache(MeterRegistry meterRegistry,
+                               @Value("${incidents.idempotency.maximum-size:100000}") long maximumSize,
+                               @Value("${incidents.idempotency.ttl:10m}") Duration ttl) {
+        this.keys = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.replayCounter = Counter.builder("incidents.idempotency.replays")
+                .description("Creates answered from the idempotency key table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims a key for a create that is about to be written. Exactly one of
+     * the concurrent callers claiming the same key gets to write.
+     *
+     * @param key     The idempotency key
+     * @param pending Result the caller completes with the id of the created
+     *                incident
+     * @return null if the key was claimed, otherwise the result of the
+     *         create that claimed it first
+     */
+    public CompletableFuture<ObjectId> claim(String key, CompletableFuture<ObjectId> pending) {
+        CompletableFuture<ObjectId> existing = keys.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            replayCounter.increment();
+        }
+        return existing;
+    }
+
+    /**
+     * Releases a claim whose create failed, so that a retry writes again
+     *
+     * @param key     The idempotency key
+     * @param pending The result passed to {@link #claim}
+     */
+    public void release(String key, CompletableFuture<ObjectId> pending) {
+        keys.asMap().remove(key, pending);
+    }
+
+    /**
+     * Waits for the create that claimed a key
+     *
+     * @param existing The result returned by {@link #claim}
+     * @return The id of the incident created with the key
+     * @throws RuntimeException the failure of that create
+     */
+    public static ObjectId await(CompletableFuture<ObjectId> existing) {
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the approximate number of keys kept
+     *
+     * @return Estimated number of keys
+     */
+    public long size() {
+        return keys.estimatedSize();
+    }
+}
@@ -0,0 +1,159 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.dto.IncidentBatchResultDTO;
+import com.humanchain.logs.dto.IncidentBatchResultDTO.ItemResult;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import com.humanchain.logs.validation.AIIncidentValidator;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for creating AI incidents in batches.
+ * Validates every item up front, then writes the valid ones with unordered
+ * bulk inserts in fixed-size chunks, so one bad item never fails the batch.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+public class IncidentBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentBatchService.class);
+
+    private final AIIncidentRepository repository;
+    private final AIIncidentValidator validator;
+
+    private List<IncidentChangeListener> changeListeners = List.of();
+
+    @Value("${incidents.batch.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${incidents.batch.max-items:10000}")
+    private int maxItems = 10000;
+
+    /**
+     * Constructs a new IncidentBatchService with required dependencies
+     *
+     * @param repository The repository for AI incident data access
+     * @param validator  The validator for AI incident data
+     */
+    public IncidentBatchService(AIIncidentRepository repository, AIIncidentValidator validator) {
+        this.repository = repository;
+        this.validator = validator;
+    }
+
+    /**
+     * Registers the listeners notified of written incidents. Only called when
+     * at least one listener bean exists.
+     *
+     * @param changeListeners The listeners to notify
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<IncidentChangeListener> changeListeners) {
+        this.changeListeners = changeListeners;
+    }
+
+    /**
+     * Returns the maximum number of items accepted in one batch
+     *
+     * @return Maximum batch size
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Validates and creates a batch of incidents
+     *
+     * @param incidents The incidents to create, in submission order
+     * @return Result of every item, in submission order
+     * @throws IllegalArgumentException if the batch exceeds the maximum size
+     */
+    public IncidentBatchResultDTO createIncidents(List<AIIncidentCreateDTO> incidents) {
+        if (incidents.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "Batch too large. At most " + maxItems + " incidents are accepted per request");
+        }
+
+        ItemResult[] results = new ItemResult[incidents.size()];
+        List<AIIncident> pending = new ArrayList<>(Math.min(chunkSize, incidents.size()));
+        int[] pendingIndexes = new int[Math.min(chunkSize, incidents.size())];
+
+        for (int i = 0; i < incidents.size(); i++) {
+            AIIncidentCreateDTO dto = incidents.get(i);
+            var validationResult = validator.validate(dto);
+            if (!validationResult.isValid()) {
+                results[i] = ItemResult.failed(i, validationResult.getMessage());
+                continue;
+            }
+
+            AIIncident incident = dto.toEntity();
+            incident.setId(new ObjectId());
+            pendingIndexes[pending.size()] = i;
+            pending.add(incident);
+
+            if (pending.size() == chunkSize) {
+                flush(pending, pendingIndexes, results);
+            }
+        }
+        flush(pending, pendingIndexes, results);
+
+        int created = (int) Arrays.stream(results).filter(ItemResult::isCreated).count();
+        return new IncidentBatchResultDTO(results.length, created, results.length - created, Arrays.asList(results));
+    }
+
+    /**
+     * Writes the pending chunk and records the outcome of each of its items
+     *
+     * @param pending        Incidents waiting to be written
+     * @param pendingIndexes Batch position of each pending incident
+     * @param results        Per-item results to fill in
+     */
+    private void flush(List<AIIncident> pending, int[] pendingIndexes, ItemResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> failures;
+        try {
+            failures = repository.insertUnordered(pending);
+        } catch (DataAccessException e) {
+            logger.error("Bulk insert of {} incidents failed: {}", pending.size(), e.getMessage());
+            failures = new HashMap<>();
+            for (int i = 0; i < pending.size(); i++) {
+                failures.put(i, "Database write failed, please retry");
+            }
+        }
+        List<AIIncident> written = new ArrayList<>(pending.size() - failures.size());
+        for (int i = 0; i < pending.size(); i++) {
+            int index = pendingIndexes[i];
+            String failure = failures.get(i);
+            if (failure == null) {
+                written.add(pending.get(i));
+                results[index] = ItemResult.created(index, pending.get(i).getId().toHexString());
+            } else {
+                results[index] = ItemResult.failed(index, failure);
+            }
+        }
+        if (!written.isEmpty()) {
+            changeListeners.forEach(listener -> listener.incidentsCreated(written));
+        }
+        if (!failures.isEmpty()) {
+            logger.warn("Bulk insert rejected {} of {} incidents", failures.size(), pending.size());
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,130 @@
+package com.humanchain.logs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.humanchain.logs.model.AIIncident;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of incidents by id, backed by Caffeine
+ * (W-TinyLFU admission, size and time based eviction).
+ * Lookups of unknown ids are cached as well, for a shorter time, so that
+ * repeated requests for a missing incident do not all reach the database.
+ * Hit, miss and eviction statistics are published as the "incidents" cache
+ * metrics. Only created when incidents.cache.enabled is not false.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class IncidentCache {
+
+    /**
+     * Name the cache metrics are tagged with
+     */
+    public static final String CACHE_NAME = "incidents";
+
+    private final Cache<ObjectId, Optional<AIIncident>> cache;
+
+    /**
+     * Constructs a new IncidentCache
+     *
+     * @param meterRegistry The registry the cache metrics are published to
+     * @param maximumSize   Maximum number of cached ids
+     * @param ttl           Time a found incident stays cached
+     * @param negativeTtl   Time a missing incident stays cached
+     */
+    public IncidentCache(MeterRegistry meterRegistry,
+                         @Value("${incidents.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${incidents.cache.ttl:10m}") Duration ttl,
+                         @Value("${incidents.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached lookup result for the id, loading it on a miss.
+     * Concurrent misses for the same id share a single load.
+     *
+     * @param id     The incident id
+     * @param loader Loads the incident from the database on a miss
+     * @return Optional containing the incident if it exists
+     */
+    public Optional<AIIncident> get(ObjectId id, Function<ObjectId, Optional<AIIncident>> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Caches a newly created incident, replacing any cached miss for its id
+     *
+     * @param incident The incident to cache; must have an id
+     */
+    public void put(AIIncident incident) {
+        cache.put(incident.getId(), Optional.of(incident));
+    }
+
+    /**
+     * Removes the id from the cache
+     *
+     * @param id The incident id
+     */
+    public void invalidate(ObjectId id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Returns the approximate number of cached ids
+     *
+     * @return Estimated cache size
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Expires found incidents after the regular TTL and misses after the
+     * negative TTL, counted from when the entry was written
+     */
+    private static final class PresenceExpiry implements Expiry<ObjectId, Optional<AIIncident>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private PresenceExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(ObjectId key, Optional<AIIncident> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(ObjectId key, Optional<AIIncident> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ObjectId key, Optional<AIIncident> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
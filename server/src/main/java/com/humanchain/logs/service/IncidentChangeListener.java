@@ -0,0 +1,69 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+
+import java.util.Collection;
+
+/**
+ * Callback for state derived from incidents that has to follow writes, such
+ * as pre-aggregated statistics or in-memory indexes. Every bean implementing
+ * this interface is notified after incidents were written through the
+ * single, batch or asynchronous ingestion path, after repeated reports
+ * were counted on stored incidents, and after incidents were deleted.
+ * Callbacks run on the writing thread and must not throw.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public interface IncidentChangeListener {
+
+    /**
+     * Called after incidents have been written to the database
+     *
+     * @param incidents The written incidents, with their ids assigned
+     */
+    void incidentsCreated(Collection<AIIncident> incidents);
+
+    /**
+     * Called after repeated reports have been counted on stored incidents,
+     * changing their occurrences and lastSeenAt. Ignored unless overridden.
+     *
+     * @param incidents The counted incidents, with at least their id
+     */
+    default void incidentsUpdated(Collection<AIIncident> incidents) {
+    }
+
+    /**
+     * Called after an incident has been deleted from the database
+     *
+     * @param incident The deleted incident as it was stored
+     */
+    void incidentDeleted(AIIncident incident);
+
+    /**
+     * Called after incidents have been deleted from the database together,
+     * by a batch delete or a purge. Notifies of each incident in turn unless
+     * overridden.
+     *
+     * @param incidents The deleted incidents, with at least their id,
+     *                  severity and reportedAt
+     */
+    default void incidentsDeleted(Collection<AIIncident> incidents) {
+        incidents.forEach(this::incidentDeleted);
+    }
+
+    /**
+     * Called after a batch delete removed fewer incidents than it was given,
+     * because another delete or the TTL monitor removed some of them in
+     * between. All of them are gone, but the delete cannot tell which ones
+     * it removed, so some may also be reported by the other delete. Treated
+     * as {@link #incidentsDeleted} unless overridden; listeners that count
+     * deletions have to override it.
+     *
+     * @param incidents The incidents that were to be deleted, with at least
+     *                  their id, severity and reportedAt
+     */
+    default void incidentsDeletedConcurrently(Collection<AIIncident> incidents) {
+        incidentsDeleted(incidents);
+    }
+}
@@ -0,0 +1,50 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import org.bson.types.ObjectId;
+
+/**
+ * Callback for node-local state that has to see writes made by every node,
+ * such as in-memory indexes and push subscriptions. Beans implementing this
+ * interface are fed by {@link IncidentChangeStreamWatcher} when the change
+ * stream is enabled. Callbacks run on the change stream thread and must not
+ * throw.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+public interface IncidentChangeStreamListener {
+
+    /**
+     * Called when an incident was inserted by any node
+     *
+     * @param incident The inserted incident
+     */
+    void incidentInserted(AIIncident incident);
+
+    /**
+     * Called when an incident was updated by any node, which happens when
+     * repeated reports are counted on it. Ignored unless overridden.
+     *
+     * @param id The ID of the updated incident
+     */
+    default void incidentUpdated(ObjectId id) {
+    }
+
+    /**
+     * Called when an incident was deleted by any node. Only the id is known,
+     * since change events of deletes do not carry the removed document.
+     *
+     * @param id The ID of the deleted incident
+     */
+    void incidentRemoved(ObjectId id);
+
+    /**
+     * Called when the change stream starts or stops delivering events, so
+     * listeners can fall back to local {@link IncidentChangeListener} events
+     *
+     * @param active Whether change stream events are being delivered
+     */
+    default void changeStreamActive(boolean active) {
+    }
+}
@@ -0,0 +1,283 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.config.MongoIndexConfig;
+import com.humanchain.logs.model.AIIncident;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Follows a single change stream on the incidents collection per node and
+ * hands inserts, updates and deletes made by any node to every
+ * {@link IncidentChangeStreamListener}. Change streams need a replica set or
+ * sharded cluster; against a standalone server the stream is not opened and
+ * listeners keep relying on local events. When the stream fails, for example
+ * during a failover the driver could not resume from, listeners fall back
+ * to local events while the stream is reopened with exponential backoff,
+ * resuming after the last event that was handed out. Writes made meanwhile
+ * therefore still arrive, late, and this node's own writes of that period
+ * may be seen a second time.
+ * Only created when incidents.change-stream.enabled is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.change-stream.enabled", havingValue = "true")
+public class IncidentChangeStreamWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentChangeStreamWatcher.class);
+
+    /**
+     * Server error code of a resume token that has fallen off the oplog
+     */
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+    private final MessageListenerContainer container;
+    private final long retryInitialMillis;
+    private final long retryMaxMillis;
+    private final ScheduledExecutorService retryScheduler;
+
+    private List<IncidentChangeStreamListener> listeners = List.of();
+    private volatile boolean active;
+    private volatile boolean stopped;
+    private volatile BsonValue resumeToken;
+    private volatile Subscription subscription;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * Constructs a new IncidentChangeStreamWatcher
+     *
+     * @param mongoTemplate The MongoTemplate the change stream is opened with
+     * @param retryInitial  Delay before the first attempt to reopen a failed stream
+     * @param retryMax      Upper bound of the delay, which doubles with every failure
+     */
+    public IncidentChangeStreamWatcher(MongoTemplate mongoTemplate,
+                                       @Value("${incidents.change-stream.retry-initial:1s}") Duration retryInitial,
+                                       @Value("${incidents.change-stream.retry-max:1m}") Duration retryMax) {
+        this.mongoTemplate = mongoTemplate;
+        this.container = new DefaultMessageListenerContainer(mongoTemplate,
+                new SimpleAsyncTaskExecutor("incident-change-stream-"), this::onError);
+        this.retryInitialMillis = retryInitial.toMillis();
+        this.retryMaxMillis = retryMax.toMillis();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "incident-change-stream-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers the listeners change events are handed to. Only called when
+     * at least one listener bean exists.
+     *
+     * @param listeners The listeners to notify
+     */
+    @Autowired(required = false)
+    public void setListeners(List<IncidentChangeStreamListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Opens the change stream before anything is loaded from the database,
+     * so no write made during loading is missed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER)
+    public void start() {
+        if (!supportsChangeStreams()) {
+            logger.warn("MongoDB is not a replica set, incident change stream disabled, using local events");
+            return;
+        }
+
+        container.start();
+        subscribe();
+        logger.info("Following incident changes on the change stream");
+    }
+
+    /**
+     * Closes the change stream and cancels a pending attempt to reopen it
+     */
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        retryScheduler.shutdownNow();
+        container.stop();
+        setActive(false);
+    }
+
+    /**
+     * Returns whether change events are being delivered
+     *
+     * @return true while the change stream is open
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Opens the change stream, after the last event handed out if there was one
+     */
+    private synchronized void subscribe() {
+        if (stopped) {
+            return;
+        }
+        ChangeStreamRequest.ChangeStreamRequestBuilder<AIIncident> request = ChangeStreamRequest
+                .builder(this::onChange)
+                .collection(mongoTemplate.getCollectionName(AIIncident.class))
+                .filter(Aggregation.newAggregation(Aggregation.match(
+                        Criteria.where("operationType").in("insert", "update", "delete"))));
+        if (resumeToken != null) {
+            request.resumeAfter(resumeToken);
+        }
+        subscription = container.register(request.build(), AIIncident.class);
+        setActive(true);
+    }
+
+    /**
+     * Reopens the change stream after a failure, unless it has been stopped
+     */
+    private void resubscribe() {
+        if (stopped) {
+            return;
+        }
+        logger.info("Reopening incident change stream{}", resumeToken != null ? " from the last event" : "");
+        try {
+            synchronized (this) {
+                if (subscription != null) {
+                    container.remove(subscription);
+                }
+            }
+            subscribe();
+        } catch (RuntimeException e) {
+            onError(e);
+        }
+    }
+
+    /**
+     * Checks whether the server is a replica set member or a mongos router
+     *
+     * @return true if change streams can be opened
+     */
+    private boolean supportsChangeStreams() {
+        try {
+            Document hello = mongoTemplate.executeCommand(new Document("hello", 1));
+            return hello.containsKey("setName") || "isdbgrid".equals(hello.get("msg"));
+        } catch (DataAccessException e) {
+            logger.warn("Could not determine MongoDB topology: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Hands an insert, update or delete event to the listeners
+     *
+     * @param message The change stream event
+     */
+    private void onChange(Message<ChangeStreamDocument<Document>, AIIncident> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        if (change == null) {
+            return;
+        }
+        resumeToken = change.getResumeToken();
+        if (failures.get() != 0) {
+            failures.set(0);
+        }
+        if (change.getOperationType() == OperationType.INSERT && message.getBody() != null) {
+            AIIncident incident = message.getBody();
+            listeners.forEach(listener -> listener.incidentInserted(incident));
+        } else if (change.getOperationType() == OperationType.UPDATE && change.getDocumentKey() != null) {
+            BsonValue id = change.getDocumentKey().get("_id");
+            if (id != null && id.isObjectId()) {
+                listeners.forEach(listener -> listener.incidentUpdated(id.asObjectId().getValue()));
+            }
+        } else if (change.getOperationType() == OperationType.DELETE && change.getDocumentKey() != null) {
+            BsonValue id = change.getDocumentKey().get("_id");
+            if (id != null && id.isObjectId()) {
+                listeners.forEach(listener -> listener.incidentRemoved(id.asObjectId().getValue()));
+            }
+        }
+    }
+
+    /**
+     * Falls back to local events when the change stream fails, and schedules
+     * reopening it. Errors raised by a listener leave the stream running.
+     *
+     * @param error The error raised by the change stream or a listener
+     */
+    private void onError(Throwable error) {
+        Subscription current = subscription;
+        if (stopped || (current != null && current.isActive())) {
+            logger.error("Failed to handle incident change event: {}", error.getMessage());
+            return;
+        }
+        if (historyLost(error)) {
+            // The oplog no longer holds the last event, so events in between are missed
+            resumeToken = null;
+        }
+        long delay = Math.min(retryMaxMillis, retryInitialMillis << Math.min(failures.getAndIncrement(), 20));
+        logger.error("Incident change stream failed, falling back to local events and retrying in {} ms: {}",
+                delay, error.getMessage());
+        setActive(false);
+        try {
+            retryScheduler.schedule(this::resubscribe, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Stopped in the meantime
+        }
+    }
+
+    /**
+     * Checks whether the stream failed because its resume token is no longer
+     * in the oplog
+     *
+     * @param error The error raised by the change stream
+     * @return true if resuming from the token cannot succeed
+     */
+    static boolean historyLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void setActive(boolean active) {
+        if (this.active != active) {
+            this.active = active;
+            listeners.forEach(listener -> listener.changeStreamActive(active));
+        }
+    }
+}
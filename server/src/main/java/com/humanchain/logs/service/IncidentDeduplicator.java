@@ -0,0 +1,454 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregates repeated reports of the same incident at ingest. Incidents are
+ * fingerprinted by their normalized title, description and severity. The
+ * first report of a fingerprint is upserted onto the newest incident with
+ * that fingerprint reported within the window, which also catches reports
+ * counted by other nodes or before a restart, and otherwise inserted. The
+ * aggregate is then kept in a table in memory, and further reports within
+ * the window only increment a counter there. Upserts of the same
+ * fingerprint are serialized on each node, so reports arriving together
+ * wait for the first one instead of inserting an aggregate each. The counters are written with
+ * one bulk update per flush interval, so a storm of identical reports costs
+ * a handful of writes instead of one document per report. The window
+ * slides: an aggregate stays open while reports keep arriving within the
+ * window of the previous one.
+ * An aggregate is forgotten when its incident is deleted, as seen through
+ * {@link IncidentChangeListener} callbacks and the change stream. Deletes
+ * neither of them reports, such as TTL expiry without a change stream, are
+ * caught by the flush: counts whose incident is gone are upserted again,
+ * which counts them on another open aggregate or inserts a new incident.
+ * Only created when incidents.dedup.enabled is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.dedup.enabled", havingValue = "true")
+public class IncidentDeduplicator implements IncidentChangeListener, IncidentChangeStreamListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentDeduplicator.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AIIncidentRepository repository;
+    private final Duration window;
+    private final int maxFingerprints;
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private final Map<ObjectId, Aggregate> aggregatesById = new ConcurrentHashMap<>();
+    private final Map<String, Object> upserting = new ConcurrentHashMap<>();
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService flusher;
+
+    private final Counter duplicateCounter;
+
+    private IncidentCache cache;
+    private List<IncidentChangeListener> changeListeners = List.of();
+
+    /**
+     * Constructs a new IncidentDeduplicator
+     *
+     * @param repository      The repository for AI incident data access
+     * @param meterRegistry   The registry the deduplication metrics are published to
+     * @param window          Time after the latest report during which an
+     *                        identical report is counted on the same incident
+     * @param maxFingerprints Maximum number of aggregates kept in memory
+     * @param flushInterval   Time between writes of the counters kept in memory
+     */
+    public IncidentDeduplicator(AIIncidentRepository repository,
+                                MeterRegistry meterRegistry,
+                                @Value("${incidents.dedup.window:10m}") Duration window,
+                                @Value("${incidents.dedup.max-fingerprints:100000}") int maxFingerprints,
+                                @Value("${incidents.dedup.flush-interval:1s}") Duration flushInterval) {
+        this.repository = repository;
+        this.window = window;
+        this.maxFingerprints = maxFingerprints;
+        this.flushIntervalMillis = flushInterval.toMillis();
+
+        Gauge.builder("incidents.dedup.fingerprints", aggregates, Map::size)
+                .description("Aggregates of repeated reports kept in memory")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("incidents.dedup.duplicates")
+                .description("Reports counted on an existing incident instead of stored")
+                .register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "incident-dedup-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts writing the counters every flush interval
+     */
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers the cache of incidents by id, whose entries are invalidated
+     * when their counts change. Only called when the cache bean exists.
+     *
+     * @param cache The cache lookups by id go through
+     */
+    @Autowired(required = false)
+    public void setCache(IncidentCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Registers the listeners notified when counts of stored incidents
+     * change, or when counts are written as a new incident. Only called
+     * when at least one listener bean exists.
+     *
+     * @param changeListeners The listeners to notify, which may include
+     *                        this deduplicator
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<IncidentChangeListener> changeListeners) {
+        this.changeListeners = changeListeners.stream()
+                .filter(listener -> listener != this)
+                .toList();
+    }
+
+    /**
+     * Records a report, either as a new incident or as one more occurrence
+     * of an incident reported within the window
+     *
+     * @param incident The reported incident
+     * @return The outcome, holding the incident the report was recorded as
+     */
+    public Outcome ingest(AIIncident incident) {
+        String fingerprint = fingerprint(incident);
+        Outcome counted = countInMemory(fingerprint, LocalDateTime.now());
+        if (counted != null) {
+            return counted;
+        }
+
+        Object lock = upserting.computeIfAbsent(fingerprint, key -> new Object());
+        try {
+            synchronized (lock) {
+                LocalDateTime now = LocalDateTime.now();
+                counted = countInMemory(fingerprint, now);
+                return counted != null ? counted : upsert(incident, fingerprint, now);
+            }
+        } finally {
+            upserting.remove(fingerprint, lock);
+        }
+    }
+
+    /**
+     * Counts a report on the open aggregate of its fingerprint
+     *
+     * @param fingerprint The fingerprint of the report
+     * @param now         Timestamp of the report
+     * @return The outcome, or null if there is no open aggregate
+     */
+    private Outcome countInMemory(String fingerprint, LocalDateTime now) {
+        Aggregate aggregate = aggregates.get(fingerprint);
+        if (aggregate != null && aggregate.record(now, window)) {
+            duplicateCounter.increment();
+            return new Outcome(aggregate.incident, false);
+        }
+        return null;
+    }
+
+    /**
+     * Upserts the first report of a fingerprint and opens its aggregate.
+     * Only runs under the fingerprint's lock, so a burst of identical
+     * reports stores a single incident.
+     *
+     * @param incident    The reported incident
+     * @param fingerprint The fingerprint of the report
+     * @param now         Timestamp of the report
+     * @return The outcome, holding the stored aggregate
+     */
+    private Outcome upsert(AIIncident incident, String fingerprint, LocalDateTime now) {
+        incident.setFingerprint(fingerprint);
+        AIIncident stored = repository.upsertOccurrence(incident, 1, now, now.minus(window));
+        boolean created = stored.getOccurrences() == null || stored.getOccurrences() <= 1;
+        if (!created) {
+            duplicateCounter.increment();
+            invalidate(stored);
+            changeListeners.forEach(listener -> listener.incidentsUpdated(List.of(stored)));
+        }
+        if (aggregates.size() < maxFingerprints) {
+            Aggregate added = new Aggregate(stored, fingerprint, now);
+            Aggregate previous = aggregates.put(fingerprint, added);
+            if (previous != null) {
+                aggregatesById.remove(previous.incident.getId(), previous);
+            }
+            aggregatesById.put(stored.getId(), added);
+        }
+        return new Outcome(stored, created);
+    }
+
+    @Override
+    public void incidentsCreated(Collection<AIIncident> incidents) {
+    }
+
+    @Override
+    public void incidentDeleted(AIIncident incident) {
+        evict(incident.getId());
+    }
+
+    @Override
+    public void incidentInserted(AIIncident incident) {
+    }
+
+    @Override
+    public void incidentRemoved(ObjectId id) {
+        evict(id);
+    }
+
+    /**
+     * Forgets the aggregate of a deleted incident, so the next identical
+     * report is upserted instead of counted on the deleted incident.
+     * Reports counted on it but not yet written are dropped with it.
+     *
+     * @param id The ID of the deleted incident
+     */
+    void evict(ObjectId id) {
+        Aggregate aggregate = aggregatesById.remove(id);
+        if (aggregate != null) {
+            aggregate.close();
+            aggregates.remove(aggregate.fingerprint, aggregate);
+        }
+    }
+
+    /**
+     * Writes the counters collected since the last flush and forgets the
+     * aggregates whose window has passed. Counts whose incident was
+     * deleted in the meantime are upserted again. A failed write is only
+     * logged, so the counts of that interval are lost but the reports never
+     * fail.
+     */
+    void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AIIncident> deltas = new ArrayList<>();
+        for (Map.Entry<String, Aggregate> entry : aggregates.entrySet()) {
+            Aggregate aggregate = entry.getValue();
+            AIIncident delta = aggregate.drain(now, window);
+            if (delta != null) {
+                deltas.add(delta);
+            } else if (aggregate.isClosed()) {
+                aggregates.remove(entry.getKey(), aggregate);
+                aggregatesById.remove(aggregate.incident.getId(), aggregate);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<AIIncident> missed;
+        try {
+            missed = repository.addOccurrences(deltas);
+        } catch (DataAccessException e) {
+            logger.error("Failed to count repeated reports on {} incidents: {}", deltas.size(), e.getMessage());
+            return;
+        }
+        List<AIIncident> counted = deltas.stream()
+                .filter(delta -> !missed.contains(delta))
+                .toList();
+        counted.forEach(this::invalidate);
+        if (!counted.isEmpty()) {
+            changeListeners.forEach(listener -> listener.incidentsUpdated(counted));
+        }
+        missed.forEach(this::recount);
+    }
+
+    /**
+     * Upserts the counts of an aggregate whose incident was deleted, which
+     * counts them on another aggregate with the same fingerprint or stores
+     * them as a new incident
+     *
+     * @param delta The counts that matched no incident
+     */
+    private void recount(AIIncident delta) {
+        Aggregate aggregate = aggregatesById.get(delta.getId());
+        if (aggregate == null) {
+            return;
+        }
+        evict(delta.getId());
+
+        AIIncident incident = new AIIncident(null, aggregate.incident.getTitle(),
+                aggregate.incident.getDescription(), aggregate.incident.getSeverity(), delta.getReportedAt());
+        incident.setFingerprint(aggregate.fingerprint);
+        try {
+            AIIncident stored = repository.upsertOccurrence(incident, delta.getOccurrences(),
+                    delta.getLastSeenAt(), delta.getLastSeenAt().minus(window));
+            if (stored.getOccurrences() != null && stored.getOccurrences() > delta.getOccurrences()) {
+                invalidate(stored);
+                changeListeners.forEach(listener -> listener.incidentsUpdated(List.of(stored)));
+            } else {
+                changeListeners.forEach(listener -> listener.incidentsCreated(List.of(stored)));
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to count {} repeated reports of deleted incident {}: {}",
+                    delta.getOccurrences(), delta.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the flusher and writes the remaining counters
+     */
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * Returns the number of aggregates kept in memory
+     *
+     * @return Number of aggregates
+     */
+    public int size() {
+        return aggregates.size();
+    }
+
+    private void invalidate(AIIncident incident) {
+        if (cache != null) {
+            cache.invalidate(incident.getId());
+        }
+    }
+
+    /**
+     * Hashes the normalized title, description and severity. Case and runs
+     * of whitespace are ignored.
+     *
+     * @param incident The incident to fingerprint
+     * @return Hex encoded SHA-256 hash
+     */
+    static String fingerprint(AIIncident incident) {
+        String key = normalize(incident.getTitle()) + '\u0000'
+                + normalize(incident.getDescription()) + '\u0000'
+                + incident.getSeverity();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Outcome of recording a report
+     *
+     * @param incident The incident the report was recorded as
+     * @param created  Whether the report created a new incident
+     */
+    public record Outcome(AIIncident incident, boolean created) {
+    }
+
+    /**
+     * An incident collecting repeated reports, with the reports not yet
+     * written to the database
+     */
+    private static final class Aggregate {
+        private final AIIncident incident;
+        private final String fingerprint;
+        private LocalDateTime lastSeenAt;
+        private LocalDateTime pendingSince;
+        private long pending;
+        private boolean closed;
+
+        private Aggregate(AIIncident incident, String fingerprint, LocalDateTime lastSeenAt) {
+            this.incident = incident;
+            this.fingerprint = fingerprint;
+            this.lastSeenAt = lastSeenAt;
+        }
+
+        /**
+         * Counts a report unless the window has passed since the latest one
+         *
+         * @return true if the report was counted
+         */
+        synchronized boolean record(LocalDateTime now, Duration window) {
+            if (closed || lastSeenAt.plus(window).isBefore(now)) {
+                return false;
+            }
+            if (pending++ == 0) {
+                pendingSince = now;
+            }
+            lastSeenAt = now;
+            return true;
+        }
+
+        /**
+         * Takes the reports counted since the last call, and closes the
+         * aggregate once its window has passed without reports
+         *
+         * @return The reports to write, with the time of the first as
+         * reportedAt, or null if there are none
+         */
+        synchronized AIIncident drain(LocalDateTime now, Duration window) {
+            if (pending == 0) {
+                closed = closed || lastSeenAt.plus(window).isBefore(now);
+                return null;
+            }
+            AIIncident delta = new AIIncident();
+            delta.setId(incident.getId());
+            delta.setOccurrences(pending);
+            delta.setReportedAt(pendingSince);
+            delta.setLastSeenAt(lastSeenAt);
+            pending = 0;
+            return delta;
+        }
+
+        /**
+         * Stops counting reports, because the incident was deleted
+         */
+        synchronized void close() {
+            closed = true;
+            pending = 0;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.humanchain.logs.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.humanchain.logs.dto.AIIncidentDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for bulk export of AI incidents as newline-delimited JSON.
+ * Incidents are read from an open Mongo cursor and written one line at a
+ * time, so memory use stays bounded by the cursor batch size regardless of
+ * how many incidents are exported.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+public class IncidentExportService {
+
+    private final AIIncidentRepository repository;
+    private final ObjectWriter incidentWriter;
+
+    @Value("${incidents.export.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${incidents.export.flush-every:500}")
+    private int flushEvery = 500;
+
+    /**
+     * Constructs a new IncidentExportService
+     *
+     * @param repository   The repository for AI incident data access
+     * @param objectMapper The application ObjectMapper used to render incidents
+     */
+    public IncidentExportService(AIIncidentRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.incidentWriter = objectMapper.writerFor(AIIncidentDTO.class);
+    }
+
+    /**
+     * Writes every incident matching the filter to the output stream, one JSON
+     * document per line, in ascending id order. A dropped export is resumed by
+     * passing the id of the last line received as afterId.
+     *
+     * @param filter  The filter criteria to apply
+     * @param afterId Id of the last incident already received, or null to
+     *                start from the beginning
+     * @param out     The stream to write to; it is flushed but not closed
+     * @return Number of incidents written
+     * @throws IOException if writing to the output stream fails
+     */
+    public long exportIncidents(IncidentFilter filter, ObjectId afterId, OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<AIIncident> incidents = repository.streamAll(filter, afterId, batchSize);
+             JsonGenerator generator = incidentWriter.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<AIIncident> iterator = incidents.iterator();
+            while (iterator.hasNext()) {
+                incidentWriter.writeValue(generator, AIIncidentDTO.fromEntity(iterator.next()));
+                generator.writeRaw('\n');
+                if (++count % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,341 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded write-behind queue for asynchronous incident ingestion.
+ * Request threads only enqueue incidents; a single dedicated writer thread
+ * drains the queue into unordered bulk inserts, flushing when a batch is
+ * full or when the flush interval has elapsed since its first incident.
+ * When the queue is full new incidents are rejected instead of blocking, so
+ * a slow database sheds load rather than piling up request threads.
+ * Only created when incidents.ingest.async.enabled is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.ingest.async.enabled", havingValue = "true")
+public class IncidentIngestQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentIngestQueue.class);
+
+    private final AIIncidentRepository repository;
+    private final BlockingQueue<AIIncident> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxWriteAttempts;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private List<IncidentChangeListener> changeListeners = List.of();
+    private IncidentCache cache;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * Constructs a new IncidentIngestQueue
+     *
+     * @param repository       The repository for AI incident data access
+     * @param meterRegistry    The registry the queue metrics are published to
+     * @param capacity         Maximum number of incidents waiting to be written
+     * @param batchSize        Maximum number of incidents per bulk insert
+     * @param flushIntervalMs  Maximum time an incident waits for its batch to fill
+     * @param maxWriteAttempts Number of attempts to write a batch before it is dropped
+     */
+    public IncidentIngestQueue(AIIncidentRepository repository,
+                               MeterRegistry meterRegistry,
+                               @Value("${incidents.ingest.async.capacity:10000}") int capacity,
+                               @Value("${incidents.ingest.async.batch-size:500}") int batchSize,
+                               @Value("${incidents.ingest.async.flush-interval-ms:200}") long flushIntervalMs,
+                               @Value("${incidents.ingest.async.max-write-attempts:3}") int maxWriteAttempts) {
+        this.repository = repository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxWriteAttempts = maxWriteAttempts;
+
+        Gauge.builder("incidents.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Incidents waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("incidents.ingest.queue.capacity", () -> capacity)
+                .description("Maximum number of incidents waiting to be written")
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("incidents.ingest.accepted")
+                .description("Incidents accepted into the queue")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("incidents.ingest.rejected")
+                .description("Incidents rejected because the queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("incidents.ingest.written")
+                .description("Incidents written to the database")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("incidents.ingest.failed")
+                .description("Incidents dropped after failed write attempts")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("incidents.ingest.flush")
+                .description("Latency of bulk inserts flushed from the queue")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the listeners notified of written incidents. Only called when
+     * at least one listener bean exists.
+     *
+     * @param changeListeners The listeners to notify
+     */
+    @Autowired(required = false)
+    public void setChangeListeners(List<IncidentChangeListener> changeListeners) {
+        this.changeListeners = changeListeners;
+    }
+
+    /**
+     * Registers the cache of incidents by id. Incidents are cached when they
+     * are enqueued, so those that are never written are evicted again. Only
+     * called when the cache bean exists.
+     *
+     * @param cache The cache lookups by id go through
+     */
+    @Autowired(required = false)
+    public void setCache(IncidentCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Starts the writer thread
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "incident-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("Asynchronous incident ingestion started");
+    }
+
+    /**
+     * Stops accepting incidents and writes everything still queued
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        logger.info("Asynchronous incident ingestion stopped, {} incidents left unwritten", queue.size());
+    }
+
+    /**
+     * Enqueues an incident for writing without blocking. The incident must
+     * already have its id assigned.
+     *
+     * @param incident The incident to write
+     * @return true if the incident was accepted, false if the queue is full
+     *         or shutting down
+     */
+    public boolean offer(AIIncident incident) {
+        if (running && queue.offer(incident)) {
+            acceptedCounter.increment();
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Returns the number of incidents waiting to be written
+     *
+     * @return Current queue depth
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    /**
+     * Writer loop: collects batches and writes them until stopped, then
+     * flushes whatever is left in the queue
+     */
+    private void drainLoop() {
+        List<AIIncident> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                // Stop requested; remaining incidents are flushed below
+            }
+            flush(batch);
+        }
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            flush(batch);
+        }
+    }
+
+    /**
+     * Waits for the first incident, then keeps collecting until the batch is
+     * full or the flush interval has elapsed
+     *
+     * @param batch The list to collect into
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void collectBatch(List<AIIncident> batch) throws InterruptedException {
+        AIIncident first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AIIncident next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Writes the batch, retrying failed database calls, and clears it. A
+     * call can fail after the write went through, for example on a timeout,
+     * so on a retry an incident rejected although its id is stored counts
+     * as written by the earlier attempt.
+     *
+     * @param batch The incidents to write
+     */
+    private void flush(List<AIIncident> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= maxWriteAttempts; attempt++) {
+            long start = System.nanoTime();
+            try {
+                Map<Integer, String> failures = repository.insertUnordered(batch);
+                if (attempt > 1 && !failures.isEmpty()) {
+                    failures = withoutStored(batch, failures);
+                }
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                writtenCounter.increment(batch.size() - failures.size());
+                if (!failures.isEmpty()) {
+                    failedCounter.increment(failures.size());
+                    logger.warn("Bulk insert rejected {} of {} queued incidents", failures.size(), batch.size());
+                    failures.keySet().forEach(index -> evict(batch.get(index)));
+                }
+                if (!changeListeners.isEmpty()) {
+                    notifyWritten(batch, failures);
+                }
+                batch.clear();
+                return;
+            } catch (DataAccessException e) {
+                logger.warn("Bulk insert of {} queued incidents failed (attempt {} of {}): {}",
+                        batch.size(), attempt, maxWriteAttempts, e.getMessage());
+                backOff(attempt);
+            }
+        }
+
+        failedCounter.increment(batch.size());
+        logger.error("Dropped {} queued incidents after failed write attempts", batch.size());
+        batch.forEach(this::evict);
+        batch.clear();
+    }
+
+    /**
+     * Drops the failures of incidents that are stored nonetheless, which
+     * happens when an earlier attempt wrote them
+     *
+     * @param batch    The incidents of the bulk insert
+     * @param failures Error message by position for incidents not written
+     * @return The failures of incidents that are not stored
+     */
+    private Map<Integer, String> withoutStored(List<AIIncident> batch, Map<Integer, String> failures) {
+        Set<ObjectId> stored = repository.findExistingIds(
+                failures.keySet().stream().map(index -> batch.get(index).getId()).toList());
+        Map<Integer, String> remaining = new HashMap<>(failures);
+        remaining.keySet().removeIf(index -> stored.contains(batch.get(index).getId()));
+        return remaining;
+    }
+
+    /**
+     * Evicts an incident that was not written from the cache, so it is no
+     * longer served by id
+     *
+     * @param incident The incident that was dropped
+     */
+    private void evict(AIIncident incident) {
+        if (cache != null) {
+            cache.invalidate(incident.getId());
+        }
+    }
+
+    /**
+     * Notifies the change listeners of the incidents of the batch that were
+     * written
+     *
+     * @param batch    The incidents of the bulk insert
+     * @param failures Error message by position for incidents not written
+     */
+    private void notifyWritten(List<AIIncident> batch, Map<Integer, String> failures) {
+        List<AIIncident> written = new ArrayList<>(batch.size() - failures.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (!failures.containsKey(i)) {
+                written.add(batch.get(i));
+            }
+        }
+        changeListeners.forEach(listener -> listener.incidentsCreated(written));
+    }
+
+    /**
+     * Sleeps before the next write attempt
+     *
+     * @param attempt The attempt that just failed
+     */
+    private void backOff(int attempt) {
+        if (attempt >= maxWriteAttempts) {
+            return;
+        }
+        try {
+            Thread.sleep(100L << attempt);
+        } catch (InterruptedException e) {
+            // Stop requested; retry right away so the batch is not lost
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPurgeJob;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes incidents by id list and purges incidents by severity and
+ * reportedAt range. A purge runs as a background job on a single thread,
+ * so purges queue up behind each other. Each chunk reads the next incidents
+ * of the range through the listing indexes and removes them with one
+ * delete; the pause after a chunk keeps the job under the configured rate,
+ * so a large purge does not saturate the primary. Jobs live on the node
+ * they were submitted to.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+public class IncidentPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentPurgeService.class);
+
+    private final AIIncidentRepository repository;
+    private final AIIncidentService incidentService;
+    private final int chunkSize;
+    private final int maxRate;
+    private final int maxIds;
+    private final Map<String, IncidentPurgeJob> jobs;
+    private final ExecutorService executor;
+
+    private final Counter purgedCounter;
+
+    /**
+     * Constructs a new IncidentPurgeService
+     *
+     * @param repository      The repository for AI incident data access
+     * @param incidentService The service deletions go through, which keeps
+     *                        the cache and change listeners up to date
+     * @param meterRegistry   The registry the purge metric is published to
+     * @param chunkSize       Maximum number of incidents deleted per chunk
+     * @param maxRate         Maximum number of incidents purged per second,
+     *                        0 for no limit
+     * @param maxIds          Maximum number of ids per batch delete
+     * @param retainedJobs    Number of finished jobs kept for polling
+     */
+    public IncidentPurgeService(AIIncidentRepository repository,
+                                AIIncidentService incidentService,
+                                MeterRegistry meterRegistry,
+                                @Value("${incidents.purge.chunk-size:1000}") int chunkSize,
+                                @Value("${incidents.purge.max-rate:5000}") int maxRate,
+                                @Value("${incidents.delete.max-ids:10000}") int maxIds,
+                                @Value("${incidents.purge.retained-jobs:100}") int retainedJobs) {
+        this.repository = repository;
+        this.incidentService = incidentService;
+        this.chunkSize = chunkSize;
+        this.maxRate = maxRate;
+        this.maxIds = maxIds;
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IncidentPurgeJob> eldest) {
+                return size() > retainedJobs && eldest.getValue().getStatus().isFinished();
+            }
+        };
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "incident-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.purgedCounter = Counter.builder("incidents.purge.deleted")
+                .description("Incidents deleted by purge jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes the incidents with the given ids in one delete
+     *
+     * @param ids The IDs of the incidents to delete
+     * @return Number of incidents deleted
+     * @throws IllegalArgumentException if more ids than allowed are given
+     */
+    public long deleteIncidents(Collection<ObjectId> ids) {
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("Too many ids. At most " + maxIds + " ids are accepted per request");
+        }
+        return incidentService.deleteIncidents(ids);
+    }
+
+    /**
+     * Submits a job purging every incident in the range. At least one bound
+     * of the reportedAt range is required, so that a purge cannot wipe the
+     * collection by accident.
+     *
+     * @param filter The range of incidents to delete; the title is ignored
+     * @return The queued job
+     * @throws IllegalArgumentException if the range is unbounded or inverted
+     */
+    public IncidentPurgeJob submit(IncidentFilter filter) {
+        if (filter.getFrom() == null && filter.getTo() == null) {
+            throw new IllegalArgumentException("A purge needs a from or to bound on reportedAt");
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("The from bound must not be after the to bound");
+        }
+        IncidentFilter range = new IncidentFilter(filter.getSeverity(), filter.getFrom(), filter.getTo(), null);
+        IncidentPurgeJob job = new IncidentPurgeJob(new ObjectId().toHexString(), range);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+        executor.execute(() -> run(job));
+        logger.info("Queued purge job {} for {}", job.getId(), range);
+        return job;
+    }
+
+    /**
+     * Returns a submitted job
+     *
+     * @param id The ID of the job
+     * @return Optional containing the job if it is still known
+     */
+    public Optional<IncidentPurgeJob> getJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * Asks a job to stop after its current chunk. Incidents already deleted
+     * stay deleted.
+     *
+     * @param id The ID of the job
+     * @return Optional containing the job if it is still known
+     */
+    public Optional<IncidentPurgeJob> cancel(String id) {
+        Optional<IncidentPurgeJob> job = getJob(id);
+        job.ifPresent(IncidentPurgeJob::cancel);
+        return job;
+    }
+
+    /**
+     * Deletes the range of a job chunk by chunk until no incident is left,
+     * the job is cancelled or a chunk fails
+     *
+     * @param job The job to run
+     */
+    void run(IncidentPurgeJob job) {
+        if (job.isCancelRequested()) {
+            job.finished(IncidentPurgeJob.Status.CANCELLED, null);
+            return;
+        }
+        try {
+            job.started(repository.countMatching(job.getFilter()));
+            while (!job.isCancelRequested()) {
+                long chunkStart = System.nanoTime();
+                List<AIIncident> chunk = repository.findPurgeChunk(job.getFilter(), chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                long deleted = incidentService.deleteLoaded(chunk);
+                job.chunkDeleted(deleted);
+                purgedCounter.increment(deleted);
+                throttle(chunk.size(), System.nanoTime() - chunkStart);
+            }
+            IncidentPurgeJob.Status status = job.isCancelRequested()
+                    ? IncidentPurgeJob.Status.CANCELLED : IncidentPurgeJob.Status.COMPLETED;
+            job.finished(status, null);
+            logger.info("Purge job {} {} after deleting {} incidents", job.getId(),
+                    status.name().toLowerCase(), job.getDeleted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finished(IncidentPurgeJob.Status.CANCELLED, null);
+        } catch (DataAccessException e) {
+            logger.error("Purge job {} failed after deleting {} incidents: {}",
+                    job.getId(), job.getDeleted(), e.getMessage());
+            job.finished(IncidentPurgeJob.Status.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Pauses after a chunk for as long as needed to stay under the maximum
+     * rate
+     *
+     * @param count        Number of incidents in the chunk
+     * @param elapsedNanos Time the chunk took
+     * @throws InterruptedException if the service is shutting down
+     */
+    private void throttle(int count, long elapsedNanos) throws InterruptedException {
+        if (maxRate <= 0) {
+            return;
+        }
+        long budgetNanos = TimeUnit.SECONDS.toNanos(count) / maxRate;
+        if (budgetNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(budgetNanos - elapsedNanos);
+        }
+    }
+
+    /**
+     * Returns the maximum number of ids per batch delete
+     *
+     * @return Maximum number of ids
+     */
+    public int getMaxIds() {
+        return maxIds;
+    }
+
+    /**
+     * Interrupts the running job and drops the queued ones
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+}
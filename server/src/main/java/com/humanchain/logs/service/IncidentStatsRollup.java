@@ -0,0 +1,149 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.config.MongoIndexConfig;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.repository.IncidentStatsBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains pre-aggregated incident counts per time bucket and severity.
+ * Every created or deleted incident adjusts one bucket per unit, so
+ * statistics are read from a number of documents proportional to the
+ * number of buckets rather than the number of incidents. Buckets only
+ * count whole units, which means a range is widened to the start of the
+ * bucket containing its lower bound.
+ * Only created when incidents.stats.pre-aggregated is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "incidents.stats.pre-aggregated", havingValue = "true")
+public class IncidentStatsRollup implements IncidentChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentStatsRollup.class);
+
+    private final IncidentStatsBucketRepository repository;
+
+    @Value("${incidents.stats.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * Constructs a new IncidentStatsRollup
+     *
+     * @param repository The repository for the stored buckets
+     */
+    public IncidentStatsRollup(IncidentStatsBucketRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Recomputes all buckets from the incidents collection, once the indexes
+     * have been ensured, when enabled. Incidents written while the rebuild
+     * runs may be counted twice or not at all, so it is meant for enabling
+     * pre-aggregation on an existing database before taking traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER + 1)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        repository.rebuild();
+        logger.info("Rebuilt pre-aggregated incident statistics");
+    }
+
+    /**
+     * Finds the stored counts overlapping the filter's reportedAt range
+     *
+     * @param filter The filter with the range and optional severity
+     * @param unit   Width of the time buckets
+     * @return Count per bucket and severity, oldest bucket first
+     */
+    public List<IncidentStatsBucket> find(IncidentFilter filter, IncidentStatsBucket.Unit unit) {
+        return repository.findBuckets(unit, filter.getFrom(), filter.getTo(), filter.getSeverity());
+    }
+
+    @Override
+    public void incidentsCreated(Collection<AIIncident> incidents) {
+        apply(incidents, 1);
+    }
+
+    @Override
+    public void incidentDeleted(AIIncident incident) {
+        apply(List.of(incident), -1);
+    }
+
+    @Override
+    public void incidentsDeleted(Collection<AIIncident> incidents) {
+        apply(incidents, -1);
+    }
+
+    /**
+     * Leaves the buckets unchanged, since the incidents counted by the other
+     * delete cannot be told apart. They are counted until the next rebuild.
+     *
+     * @param incidents The incidents that were to be deleted
+     */
+    @Override
+    public void incidentsDeletedConcurrently(Collection<AIIncident> incidents) {
+        logger.warn("{} incidents were deleted concurrently; statistics count some of them until rebuilt",
+                incidents.size());
+    }
+
+    /**
+     * Applies the incidents to the stored buckets. A failed update is only
+     * logged, since the incidents themselves have already been written.
+     *
+     * @param incidents The incidents to apply
+     * @param sign      1 to add the incidents, -1 to remove them
+     */
+    private void apply(Collection<AIIncident> incidents, int sign) {
+        Collection<IncidentStatsBucket> deltas = deltas(incidents, sign);
+        try {
+            repository.incrementCounts(deltas);
+        } catch (DataAccessException e) {
+            logger.error("Failed to update statistics for {} incidents: {}", incidents.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Groups incidents into one count change per unit, bucket and severity
+     *
+     * @param incidents The incidents to group
+     * @param sign      1 to add the incidents, -1 to remove them
+     * @return Count changes to apply
+     */
+    static Collection<IncidentStatsBucket> deltas(Collection<AIIncident> incidents, int sign) {
+        Map<String, IncidentStatsBucket> deltas = new LinkedHashMap<>();
+        for (AIIncident incident : incidents) {
+            if (incident.getReportedAt() == null || incident.getSeverity() == null) {
+                continue;
+            }
+            for (IncidentStatsBucket.Unit unit : IncidentStatsBucket.Unit.values()) {
+                LocalDateTime bucket = unit.truncate(incident.getReportedAt());
+                IncidentStatsBucket delta = deltas.computeIfAbsent(
+                        unit + "|" + bucket + "|" + incident.getSeverity(),
+                        key -> IncidentStatsBucket.of(unit, bucket, incident.getSeverity(), 0));
+                delta.setCount(delta.getCount() + sign);
+            }
+        }
+        return deltas.values();
+    }
+}
@@ -0,0 +1,87 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.dto.IncidentStatsDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service computing incident counts per severity and time bucket.
+ * Counts are aggregated from the incidents collection, or read from the
+ * pre-aggregated buckets when {@link IncidentStatsRollup} is enabled.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+public class IncidentStatsService {
+
+    private final AIIncidentRepository repository;
+
+    private IncidentStatsRollup rollup;
+
+    @Value("${incidents.stats.default-range:24h}")
+    private Duration defaultRange = Duration.ofHours(24);
+
+    @Value("${incidents.stats.max-buckets:10000}")
+    private long maxBuckets = 10000;
+
+    /**
+     * Constructs a new IncidentStatsService with required repository
+     *
+     * @param repository The repository for AI incident data access
+     */
+    public IncidentStatsService(AIIncidentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Serves statistics from pre-aggregated buckets. Only called when the
+     * rollup bean exists.
+     *
+     * @param rollup The rollup maintaining the buckets
+     */
+    @Autowired(required = false)
+    public void setRollup(IncidentStatsRollup rollup) {
+        this.rollup = rollup;
+    }
+
+    /**
+     * Computes incident counts over a reportedAt range
+     *
+     * @param severity Optional severity the incidents must have
+     * @param from     Start (inclusive) of the range, or null for the default
+     *                 range before the end
+     * @param to       End (inclusive) of the range, or null for now
+     * @param unit     Width of the time buckets
+     * @return Counts per severity and per bucket
+     * @throws IllegalArgumentException if the range is inverted or needs more
+     *                                  buckets than allowed
+     */
+    public IncidentStatsDTO getStats(AIIncident.Severity severity, LocalDateTime from,
+                                     LocalDateTime to, IncidentStatsBucket.Unit unit) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(defaultRange);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Invalid range. 'from' must not be after 'to'");
+        }
+        if (unit.bucketsBetween(start, end) > maxBuckets) {
+            throw new IllegalArgumentException("Range too large. At most " + maxBuckets
+                    + " buckets are returned, please use a wider bucket or a shorter range");
+        }
+
+        IncidentFilter filter = new IncidentFilter(severity, start, end, null);
+        List<IncidentStatsBucket> rows = rollup != null
+                ? rollup.find(filter, unit)
+                : repository.countByBucket(filter, unit);
+        return IncidentStatsDTO.fromBuckets(start, end, unit, rows);
+    }
+}
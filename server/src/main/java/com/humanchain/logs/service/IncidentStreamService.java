@@ -0,0 +1,417 @@
+package com.humanchain.logs.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanchain.logs.dto.IncidentEventDTO;
+import com.humanchain.logs.model.AIIncident;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes created and deleted incidents to server-sent event subscribers.
+ * Events come from the change stream while it is active, so writes of every
+ * node are seen, and from local {@link IncidentChangeListener} callbacks
+ * otherwise. Each event is serialized once and handed to every matching
+ * subscriber's bounded buffer; a small pool of sender threads drains the
+ * buffers, and a subscriber whose buffer overflows is disconnected so a
+ * slow client cannot hold memory or stall the others.
+ * Events are numbered per node and the most recent ones are kept, so a
+ * client reconnecting with a Last-Event-ID receives what it missed, or a
+ * reset event telling it to reload when that is no longer possible.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+@Profile("!reactive")
+public class IncidentStreamService implements IncidentChangeListener, IncidentChangeStreamListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentStreamService.class);
+
+    static final String RESET_EVENT = "reset";
+
+    private static final Frame HEARTBEAT = new Frame(null, null, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    /**
+     * Distinguishes event IDs of this node's run, since sequences restart
+     * with the process
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Object lock = new Object();
+    private final Frame[] replay;
+    private long nextSequence = 1;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter publishedCounter;
+    private final Counter laggingCounter;
+
+    private volatile boolean changeStreamActive;
+
+    /**
+     * Constructs a new IncidentStreamService
+     *
+     * @param objectMapper      The mapper events are serialized with
+     * @param meterRegistry     The registry the stream metrics are published to
+     * @param bufferSize        Events buffered per subscriber before it is
+     *                          disconnected as lagging
+     * @param replaySize        Recent events kept for resuming subscribers
+     * @param maxSubscribers    Maximum number of concurrent subscribers
+     * @param timeout           How long a subscription stays open before the
+     *                          client has to reconnect
+     * @param heartbeatInterval How often idle connections are written to
+     * @param senderThreads     Number of threads writing to subscribers
+     */
+    public IncidentStreamService(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${incidents.stream.buffer-size:256}") int bufferSize,
+                                 @Value("${incidents.stream.replay-size:1024}") int replaySize,
+                                 @Value("${incidents.stream.max-subscribers:10000}") int maxSubscribers,
+                                 @Value("${incidents.stream.timeout:30m}") Duration timeout,
+                                 @Value("${incidents.stream.heartbeat:15s}") Duration heartbeatInterval,
+                                 @Value("${incidents.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.replay = new Frame[replaySize];
+
+        CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("incident-stream-");
+        senderThreadFactory.setDaemon(true);
+        this.sender = Executors.newFixedThreadPool(senderThreads, senderThreadFactory);
+
+        CustomizableThreadFactory heartbeatThreadFactory = new CustomizableThreadFactory("incident-stream-heartbeat-");
+        heartbeatThreadFactory.setDaemon(true);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(heartbeatThreadFactory);
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("incidents.stream.subscribers", subscribers, Set::size)
+                .description("Open incident stream subscriptions")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("incidents.stream.published")
+                .description("Incident events published to the stream")
+                .register(meterRegistry);
+        this.laggingCounter = Counter.builder("incidents.stream.lagging")
+                .description("Stream subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription. Without a last event ID the stream starts with
+     * the next event; with one, the events published after it are sent
+     * first, or a reset event when they are no longer available.
+     *
+     * @param severity    Optional severity the streamed incidents must have;
+     *                    deletes seen on the change stream are always sent
+     * @param lastEventId Optional ID of the last event the client received
+     * @return SseEmitter the events are written to
+     * @throws IllegalStateException if the maximum number of subscribers is reached
+     */
+    public SseEmitter subscribe(AIIncident.Severity severity, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many stream subscribers, please retry later");
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, severity);
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.detach());
+
+        synchronized (lock) {
+            resume(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions
+     *
+     * @return Number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void incidentsCreated(Collection<AIIncident> incidents) {
+        if (!changeStreamActive) {
+            incidents.forEach(this::incidentInserted);
+        }
+    }
+
+    @Override
+    public void incidentDeleted(AIIncident incident) {
+        if (!changeStreamActive) {
+            publish(IncidentEventDTO.deleted(incident.getId().toHexString()), incident.getSeverity());
+        }
+    }
+
+    @Override
+    public void incidentInserted(AIIncident incident) {
+        publish(IncidentEventDTO.created(incident), incident.getSeverity());
+    }
+
+    @Override
+    public void incidentRemoved(ObjectId id) {
+        publish(IncidentEventDTO.deleted(id.toHexString()), null);
+    }
+
+    @Override
+    public void changeStreamActive(boolean active) {
+        this.changeStreamActive = active;
+    }
+
+    /**
+     * Completes all subscriptions and stops the sender threads
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        sender.shutdown();
+    }
+
+    /**
+     * Creates the emitter of a new subscription
+     *
+     * @param timeoutMillis Subscription timeout in milliseconds
+     * @return New SseEmitter
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Serializes an event once, remembers it for resuming subscribers and
+     * hands it to every subscriber
+     *
+     * @param event    The event to publish
+     * @param severity Severity of the incident, null if unknown
+     */
+    private void publish(IncidentEventDTO event, AIIncident.Severity severity) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize {} event of incident {}: {}", event.getType(), event.getId(), e.getMessage());
+            return;
+        }
+
+        synchronized (lock) {
+            long sequence = nextSequence++;
+            Frame frame = new Frame(eventId(sequence), event.getType().eventName(), data, severity);
+            replay[(int) (sequence % replay.length)] = frame;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.deliver(frame);
+            }
+        }
+        publishedCounter.increment();
+    }
+
+    /**
+     * Queues what a new subscriber needs before live events. Must be called
+     * while holding the lock, so no event is missed or sent twice.
+     *
+     * @param subscriber  The new subscriber
+     * @param lastEventId ID of the last event the client received, may be null
+     */
+    private void resume(Subscriber subscriber, String lastEventId) {
+        long head = nextSequence - 1;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            // An ID without data sets the client's last event ID without dispatching an event
+            subscriber.buffer.offer(new Frame(eventId(head), null, null, null));
+            return;
+        }
+
+        long after = sequenceOf(lastEventId);
+        if (after >= 0 && after <= head && after >= head - replay.length) {
+            boolean complete = true;
+            for (long sequence = after + 1; sequence <= head && complete; sequence++) {
+                Frame frame = replay[(int) (sequence % replay.length)];
+                complete = !subscriber.accepts(frame) || subscriber.buffer.offer(frame);
+            }
+            if (complete) {
+                return;
+            }
+            subscriber.buffer.clear();
+        }
+        subscriber.buffer.offer(new Frame(eventId(head), RESET_EVENT, RESET_EVENT, null));
+    }
+
+    /**
+     * Writes a comment to every subscriber so proxies keep idle connections
+     * open and closed connections are noticed. Subscribers with pending
+     * events are skipped, since those are written anyway.
+     */
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.isEmpty() && subscriber.buffer.offer(HEARTBEAT)) {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Parses the sequence from an event ID of this node's run
+     *
+     * @param eventId The event ID sent by the client
+     * @return The sequence, or -1 if the ID was not issued by this run
+     */
+    private long sequenceOf(String eventId) {
+        String prefix = epoch + "-";
+        if (!eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A serialized event, shared by all subscribers it is sent to
+     */
+    private static final class Frame {
+        private final String id;
+        private final String name;
+        private final String data;
+        private final AIIncident.Severity severity;
+
+        private Frame(String id, String name, String data, AIIncident.Severity severity) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.severity = severity;
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (id != null) {
+                event.id(id);
+            }
+            if (name != null) {
+                event.name(name);
+            }
+            return data != null ? event.data(data) : event.comment("");
+        }
+    }
+
+    /**
+     * An open subscription with its bounded buffer of pending events
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AIIncident.Severity severity;
+        private final BlockingQueue<Frame> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, AIIncident.Severity severity) {
+            this.emitter = emitter;
+            this.severity = severity;
+        }
+
+        private boolean accepts(Frame frame) {
+            return severity == null || frame.severity == null || frame.severity == severity;
+        }
+
+        /**
+         * Queues a published event, disconnecting the subscriber when its
+         * buffer is full. The client reconnects and resumes from its last
+         * event ID.
+         */
+        private void deliver(Frame frame) {
+            if (!accepts(frame)) {
+                return;
+            }
+            if (buffer.offer(frame)) {
+                schedule();
+            } else {
+                laggingCounter.increment();
+                logger.warn("Disconnecting incident stream subscriber, {} events pending", buffer.size());
+                close();
+            }
+        }
+
+        private void schedule() {
+            if (closed || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = buffer.poll()) != null) {
+                    emitter.send(frame.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container reports the error to the emitter
+                detach();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void detach() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+
+        private void close() {
+            if (!closed) {
+                detach();
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.config.MongoClientProperties;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentVersion;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import com.mongodb.ReadPreference;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the version of the incidents collection that conditional reads are
+ * validated against. When this node sees every write, because it is the only
+ * node or because the change stream is active, the version is a counter
+ * bumped by the change callbacks and costs nothing to read. Otherwise it is
+ * read from the database, which takes three small queries: the highest id,
+ * the estimated count and the update counter. A token read from the
+ * database is reused for incidents.http-cache.version-ttl until this node
+ * writes, so writes of other nodes may take that long to change the version.
+ * The source is chosen with incidents.http-cache.version-source:
+ * 'local', 'database' or 'auto' (local while the change stream is active).
+ * When listings are read from secondaries, 'auto' always reads the version
+ * through the listing template, since a counter bumped by writes on the
+ * primary would tag data a secondary has not replicated yet.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+public class IncidentVersionTracker implements IncidentChangeListener, IncidentChangeStreamListener {
+
+    private final AIIncidentRepository repository;
+    private final Source source;
+    private final boolean listingFromPrimary;
+
+    /**
+     * Distinguishes counter values of this node's run, since the counter
+     * restarts with the process
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong changes = new AtomicLong();
+
+    private volatile Instant lastModified = now();
+    private volatile boolean changeStreamActive;
+    private final long databaseTtlNanos;
+    private String databaseToken;
+    private long databaseReadAt;
+    private long databaseChanges = -1;
+
+    /**
+     * Constructs a new IncidentVersionTracker
+     *
+     * @param repository       The repository the database version is read from
+     * @param source           Where the version comes from: auto, local or database
+     * @param clientProperties The client properties with the listing read preference
+     * @param databaseTtl      How long a version read from the database is reused
+     * @throws IllegalArgumentException if the source is not known
+     */
+    public IncidentVersionTracker(AIIncidentRepository repository,
+                                  @Value("${incidents.http-cache.version-source:auto}") String source,
+                                  MongoClientProperties clientProperties,
+                                  @Value("${incidents.http-cache.version-ttl:1s}") Duration databaseTtl) {
+        this.repository = repository;
+        this.source = Source.valueOf(source.trim().toUpperCase());
+        this.databaseTtlNanos = databaseTtl.toNanos();
+        this.listingFromPrimary = ReadPreference.primary().equals(MongoClientProperties.toReadPreference(
+                clientProperties.getListingReadPreference(), null));
+    }
+
+    /**
+     * Returns the current version. Must be read before the data it
+     * validates, so a write in between yields a newer version next time
+     * rather than an outdated response under a current tag.
+     *
+     * @return The current collection version
+     */
+    public IncidentVersion current() {
+        if (source == Source.LOCAL || (source == Source.AUTO && changeStreamActive && listingFromPrimary)) {
+            return new IncidentVersion(epoch + "-" + changes.get(), lastModified);
+        }
+
+        long seen = changes.get();
+        synchronized (this) {
+            if (databaseToken != null && databaseChanges == seen
+                    && System.nanoTime() - databaseReadAt < databaseTtlNanos) {
+                return new IncidentVersion(databaseToken, lastModified);
+            }
+        }
+
+        String token = repository.collectionVersion();
+        synchronized (this) {
+            if (!token.equals(databaseToken)) {
+                databaseToken = token;
+                lastModified = now();
+            }
+            databaseReadAt = System.nanoTime();
+            databaseChanges = seen;
+            return new IncidentVersion(token, lastModified);
+        }
+    }
+
+    @Override
+    public void incidentsCreated(Collection<AIIncident> incidents) {
+        changed();
+    }
+
+    @Override
+    public void incidentsUpdated(Collection<AIIncident> incidents) {
+        changed();
+    }
+
+    @Override
+    public void incidentDeleted(AIIncident incident) {
+        changed();
+    }
+
+    @Override
+    public void incidentsDeleted(Collection<AIIncident> incidents) {
+        changed();
+    }
+
+    @Override
+    public void incidentInserted(AIIncident incident) {
+        changed();
+    }
+
+    @Override
+    public void incidentUpdated(ObjectId id) {
+        changed();
+    }
+
+    @Override
+    public void incidentRemoved(ObjectId id) {
+        changed();
+    }
+
+    @Override
+    public void changeStreamActive(boolean active) {
+        this.changeStreamActive = active;
+        changed();
+    }
+
+    private void changed() {
+        changes.incrementAndGet();
+        lastModified = now();
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Enum representing where the version is read from
+     */
+    private enum Source {
+        AUTO,
+        LOCAL,
+        DATABASE
+    }
+}
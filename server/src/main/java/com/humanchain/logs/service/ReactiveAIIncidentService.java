@@ -0,0 +1,137 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPage;
+import com.humanchain.logs.repository.ReactiveAIIncidentRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking service layer for AI Incident operations.
+ * Mirrors {@link AIIncidentService} on top of the reactive Mongo driver and
+ * is only active in the reactive profile.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAIIncidentService {
+
+    private final ReactiveAIIncidentRepository repository;
+
+    @Value("${incidents.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${incidents.page.max-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${incidents.export.batch-size:1000}")
+    private int streamBatchSize = 1000;
+
+    /**
+     * Constructs a new ReactiveAIIncidentService with required repository
+     *
+     * @param repository The reactive repository for AI incident data access
+     */
+    public ReactiveAIIncidentService(ReactiveAIIncidentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Retrieves one page of incidents matching the filter, newest first
+     *
+     * @param filter The filter criteria to apply
+     * @param cursor Continuation token of the previous page, or null for the
+     *               first page
+     * @param limit  Requested page size, or null for the default size
+     * @return Mono emitting the requested page, or an IllegalArgumentException
+     *         if the cursor is malformed
+     */
+    public Mono<IncidentPage> getAllIncidents(IncidentFilter filter, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = resolvePageSize(limit);
+            IncidentCursor after = cursor == null || cursor.isBlank() ? null : IncidentCursor.decode(cursor);
+            return repository.findPage(filter, after, pageSize + 1)
+                    .collectList()
+                    .map(incidents -> toPage(incidents, pageSize));
+        });
+    }
+
+    /**
+     * Streams every incident matching the filter, newest first, as fast as
+     * the subscriber consumes them
+     *
+     * @param filter The filter criteria to apply
+     * @return Flux of matching incidents
+     */
+    public Flux<AIIncident> streamIncidents(IncidentFilter filter) {
+        return repository.streamAll(filter, streamBatchSize);
+    }
+
+    /**
+     * Retrieves a specific incident by its ID
+     *
+     * @param id The ID of the incident to retrieve
+     * @return Mono emitting the incident, or empty if not found
+     */
+    public Mono<AIIncident> getIncidentById(ObjectId id) {
+        return repository.findById(id);
+    }
+
+    /**
+     * Creates a new incident in the database
+     *
+     * @param incident The incident to create
+     * @return Mono emitting the created incident with generated ID
+     */
+    public Mono<AIIncident> createIncident(AIIncident incident) {
+        return repository.save(incident);
+    }
+
+    /**
+     * Deletes an incident by its ID
+     *
+     * @param id The ID of the incident to delete
+     * @return Mono emitting true if an incident was deleted
+     */
+    public Mono<Boolean> deleteIncident(ObjectId id) {
+        return repository.removeById(id).map(deleted -> deleted > 0);
+    }
+
+    /**
+     * Splits the over-fetched result into the page and the next cursor
+     *
+     * @param incidents Up to pageSize + 1 incidents
+     * @param pageSize  Requested page size
+     * @return The resulting page
+     */
+    private static IncidentPage toPage(List<AIIncident> incidents, int pageSize) {
+        if (incidents.size() <= pageSize) {
+            return new IncidentPage(incidents, null);
+        }
+        List<AIIncident> items = incidents.subList(0, pageSize);
+        return new IncidentPage(items, IncidentCursor.after(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Clamps the requested page size into the configured bounds
+     *
+     * @param limit Requested page size, or null for the default size
+     * @return Page size between 1 and the configured maximum
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+}
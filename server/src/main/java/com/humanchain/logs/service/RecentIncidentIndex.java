@@ -0,0 +1,468 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.config.MongoIndexConfig;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over the incidents of a recent time window.
+ * Answers token searches with severity and time-range filters without a
+ * database round-trip. Incidents live in parallel arrays addressed by slot,
+ * and every token maps to a growable int array of slots in insertion order,
+ * so postings are intersected by merging sorted primitive arrays. Deleted
+ * and expired incidents leave a hole until the arrays are compacted, which
+ * happens when they are full.
+ * The index is filled from the database once the application is ready and
+ * kept current through {@link IncidentChangeListener} callbacks, and through
+ * the change stream when it is enabled so writes of other nodes are seen too.
+ * Only created when incidents.recent-index.enabled is true.
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "incidents.recent-index.enabled", havingValue = "true")
+public class RecentIncidentIndex implements IncidentChangeListener, IncidentChangeStreamListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentIncidentIndex.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final AIIncidentRepository repository;
+    private final Duration window;
+    private final int maxDocuments;
+    private final int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private AIIncident[] incidents;
+    private long[] reportedAt;
+    private byte[] severities;
+    private int slots;
+    private int live;
+    private long incidentBytes;
+    private final Map<ObjectId, Integer> slotById = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * Constructs a new RecentIncidentIndex
+     *
+     * @param repository    The repository the index is loaded from
+     * @param meterRegistry The registry the index metrics are published to
+     * @param window        How far back incidents are kept, by reported timestamp
+     * @param maxDocuments  Maximum number of incidents kept; the oldest are
+     *                      dropped first
+     * @param loadBatchSize Number of documents fetched per cursor round-trip
+     *                      while loading
+     */
+    public RecentIncidentIndex(AIIncidentRepository repository,
+                               MeterRegistry meterRegistry,
+                               @Value("${incidents.recent-index.window:7d}") Duration window,
+                               @Value("${incidents.recent-index.max-documents:1000000}") int maxDocuments,
+                               @Value("${incidents.recent-index.load-batch-size:1000}") int loadBatchSize) {
+        this.repository = repository;
+        this.window = window;
+        this.maxDocuments = maxDocuments;
+        this.loadBatchSize = loadBatchSize;
+
+        int capacity = Math.min(INITIAL_CAPACITY, maxDocuments);
+        this.incidents = new AIIncident[capacity];
+        this.reportedAt = new long[capacity];
+        this.severities = new byte[capacity];
+
+        Gauge.builder("incidents.recent-index.size", this, RecentIncidentIndex::size)
+                .description("Incidents held in the in-memory index")
+                .register(meterRegistry);
+        Gauge.builder("incidents.recent-index.terms", this, RecentIncidentIndex::termCount)
+                .description("Distinct tokens in the in-memory index")
+                .register(meterRegistry);
+        Gauge.builder("incidents.recent-index.memory", this, RecentIncidentIndex::estimatedMemoryBytes)
+                .description("Estimated heap used by the in-memory index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the incidents of the window from the database, once the indexes
+     * have been ensured. Incidents written meanwhile are added through the
+     * change callbacks; adding an incident twice has no effect.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(MongoIndexConfig.ORDER + 1)
+    public void load() {
+        IncidentFilter filter = new IncidentFilter(null, cutoff(), null, null);
+        List<AIIncident> batch = new ArrayList<>(loadBatchSize);
+        try (Stream<AIIncident> stream = repository.streamAll(filter, null, loadBatchSize)) {
+            stream.forEach(incident -> {
+                batch.add(incident);
+                if (batch.size() == loadBatchSize) {
+                    incidentsCreated(batch);
+                    batch.clear();
+                }
+            });
+        }
+        incidentsCreated(batch);
+        logger.info("Loaded {} recent incidents into the in-memory index, about {} KiB",
+                size(), estimatedMemoryBytes() / 1024);
+    }
+
+    @Override
+    public void incidentsCreated(Collection<AIIncident> created) {
+        long cutoff = toMillis(cutoff());
+        lock.writeLock().lock();
+        try {
+            for (AIIncident incident : created) {
+                if (incident.getId() == null || incident.getReportedAt() == null
+                        || toMillis(incident.getReportedAt()) < cutoff
+                        || slotById.containsKey(incident.getId())) {
+                    continue;
+                }
+                add(incident);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void incidentDeleted(AIIncident incident) {
+        remove(incident.getId());
+    }
+
+    @Override
+    public void incidentInserted(AIIncident incident) {
+        incidentsCreated(List.of(incident));
+    }
+
+    @Override
+    public void incidentRemoved(ObjectId id) {
+        remove(id);
+    }
+
+    /**
+     * Removes an incident from the index
+     *
+     * @param id The ID of the incident to remove
+     * @return true if the incident was indexed
+     */
+    public boolean remove(ObjectId id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return false;
+            }
+            incidentBytes -= incidentBytes(incidents[slot]);
+            incidents[slot] = null;
+            live--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds indexed incidents containing every token of the text, newest first
+     *
+     * @param text     Search text, or null or blank to match every incident
+     * @param severity Only incidents with this severity match, or null for all
+     * @param from     Lower bound (inclusive) of the reported timestamp, or null
+     * @param to       Upper bound (inclusive) of the reported timestamp, or null
+     * @param limit    Maximum number of incidents to return
+     * @return Matching incidents, newest first, at most limit long
+     */
+    public List<AIIncident> search(String text, AIIncident.Severity severity,
+                                   LocalDateTime from, LocalDateTime to, int limit) {
+        long lower = Math.max(toMillis(cutoff()), from == null ? Long.MIN_VALUE : toMillis(from));
+        long upper = to == null ? Long.MAX_VALUE : toMillis(to);
+        int severityOrdinal = severity == null ? -1 : severity.ordinal();
+        Set<String> tokens = tokenize(text);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates;
+            int candidateCount;
+            if (tokens.isEmpty()) {
+                candidates = null;
+                candidateCount = slots;
+            } else {
+                Postings matched = intersect(tokens);
+                if (matched == null) {
+                    return List.of();
+                }
+                candidates = matched.slots;
+                candidateCount = matched.size;
+            }
+
+            List<AIIncident> result = new ArrayList<>();
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates == null ? i : candidates[i];
+                AIIncident incident = incidents[slot];
+                if (incident == null
+                        || reportedAt[slot] < lower || reportedAt[slot] > upper
+                        || (severityOrdinal >= 0 && severities[slot] != severityOrdinal)) {
+                    continue;
+                }
+                result.add(incident);
+            }
+            result.sort((a, b) -> b.getReportedAt().compareTo(a.getReportedAt()));
+            return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of incidents held by the index
+     *
+     * @return Number of indexed incidents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct tokens in the index
+     *
+     * @return Number of posting lists
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates the heap used by the index, assuming compressed references.
+     * Covers the slot arrays, posting lists, id map and the indexed incidents
+     * with their strings.
+     *
+     * @return Estimated size in bytes
+     */
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = arrayBytes(incidents.length, 4) + arrayBytes(reportedAt.length, 8)
+                    + arrayBytes(severities.length, 1);
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                bytes += 32 + stringBytes(entry.getKey()) + 16 + arrayBytes(entry.getValue().slots.length, 4);
+            }
+            bytes += slotById.size() * (32L + 24 + 16);
+            return bytes + incidentBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends an incident to the next free slot. Callers hold the write lock.
+     *
+     * @param incident The incident to add
+     */
+    private void add(AIIncident incident) {
+        if (slots == incidents.length) {
+            compact();
+            if (slots > incidents.length - incidents.length / 4 && incidents.length < maxDocuments) {
+                grow(Math.min(incidents.length * 2, maxDocuments));
+            }
+        }
+
+        int slot = slots++;
+        incidents[slot] = incident;
+        reportedAt[slot] = toMillis(incident.getReportedAt());
+        severities[slot] = (byte) (incident.getSeverity() == null ? -1 : incident.getSeverity().ordinal());
+        slotById.put(incident.getId(), slot);
+        live++;
+        incidentBytes += incidentBytes(incident);
+
+        Set<String> tokens = tokenize(incident.getTitle());
+        tokens.addAll(tokenize(incident.getDescription()));
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new Postings()).add(slot);
+        }
+    }
+
+    /**
+     * Drops deleted and expired incidents and renumbers the remaining slots.
+     * When the arrays are at their maximum size, the oldest incidents are
+     * dropped as well until at most three quarters of it is in use, so a
+     * few holes left by deletes do not make every insert rebuild the index.
+     * Callers hold the write lock.
+     */
+    private void compact() {
+        long cutoff = toMillis(cutoff());
+        int keepFrom = 0;
+        if (incidents.length >= maxDocuments) {
+            keepFrom = Math.max(0, live - (maxDocuments - maxDocuments / 4));
+        }
+
+        AIIncident[] kept = new AIIncident[incidents.length];
+        int keptCount = 0;
+        int seen = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            AIIncident incident = incidents[slot];
+            if (incident == null) {
+                continue;
+            }
+            if (seen++ < keepFrom || reportedAt[slot] < cutoff) {
+                slotById.remove(incident.getId());
+                continue;
+            }
+            kept[keptCount++] = incident;
+        }
+
+        int evicted = live - keptCount;
+        incidents = new AIIncident[incidents.length];
+        Arrays.fill(reportedAt, 0L);
+        Arrays.fill(severities, (byte) 0);
+        postings.clear();
+        slots = 0;
+        live = 0;
+        incidentBytes = 0;
+        for (int i = 0; i < keptCount; i++) {
+            slotById.remove(kept[i].getId());
+            add(kept[i]);
+        }
+        logger.debug("Compacted in-memory index, {} incidents kept, {} evicted", keptCount, evicted);
+    }
+
+    private void grow(int capacity) {
+        incidents = Arrays.copyOf(incidents, capacity);
+        reportedAt = Arrays.copyOf(reportedAt, capacity);
+        severities = Arrays.copyOf(severities, capacity);
+    }
+
+    /**
+     * Intersects the posting lists of all tokens, starting with the shortest.
+     * Callers hold the read lock.
+     *
+     * @param tokens The tokens every incident must contain
+     * @return Slots containing every token, or null when there are none
+     */
+    private Postings intersect(Set<String> tokens) {
+        List<Postings> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Postings list = postings.get(token);
+            if (list == null) {
+                return null;
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        Postings result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.size > 0; i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result.size == 0 ? null : result;
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(window);
+    }
+
+    /**
+     * Splits text into lower case tokens of letters and digits
+     *
+     * @param text The text to split, may be null
+     * @return Distinct tokens of at least two characters, in order of appearance
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static long toMillis(LocalDateTime timestamp) {
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return 16 + (long) length * elementBytes;
+    }
+
+    private static long incidentBytes(AIIncident incident) {
+        return 40 + 24 + stringBytes(incident.getTitle()) + stringBytes(incident.getDescription());
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    /**
+     * Growable array of slots in ascending order
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        Postings intersect(Postings other) {
+            Postings result = new Postings();
+            result.slots = new int[Math.max(1, Math.min(size, other.size))];
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (slots[i] < other.slots[j]) {
+                    i++;
+                } else if (slots[i] > other.slots[j]) {
+                    j++;
+                } else {
+                    result.slots[result.size++] = slots[i];
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -3,16 +3,21 @@ package com.humanchain.logs.validation;
 import com.humanchain.logs.dto.AIIncidentCreateDTO;
 import com.humanchain.logs.dto.AIIncidentDTO;
 import com.humanchain.logs.model.AIIncident;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Validator for AI Incident data.
  * Ensures that incident data meets the required validation rules before
- * processing.
+ * processing. Rejections are counted per violated rule in the
+ * incidents.validation.failures metric.
  *
  * @author Vikas Singh
  * @since 1.0
@@ -20,6 +25,22 @@ import java.util.stream.Collectors;
 @Component
 public class AIIncidentValidator {
 
+    private final Map<Rule, Counter> failureCounters = new EnumMap<>(Rule.class);
+
+    /**
+     * Constructs a new AIIncidentValidator
+     *
+     * @param meterRegistry The registry the failure counters are published to
+     */
+    public AIIncidentValidator(MeterRegistry meterRegistry) {
+        for (Rule rule : Rule.values()) {
+            failureCounters.put(rule, Counter.builder("incidents.validation.failures")
+                    .description("Incidents rejected by validation")
+                    .tag("rule", rule.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * Validates an AI Incident entity
      *
@@ -28,19 +49,19 @@ public class AIIncidentValidator {
      */
     public ValidationResult validate(AIIncident incident) {
         if (incident == null) {
-            return new ValidationResult(false, "Incident cannot be null");
+            return fail(Rule.INCIDENT_REQUIRED, "Incident cannot be null");
         }
 
         if (!StringUtils.hasText(incident.getTitle())) {
-            return new ValidationResult(false, "Title is required");
+            return fail(Rule.TITLE_REQUIRED, "Title is required");
         }
 
         if (!StringUtils.hasText(incident.getDescription())) {
-            return new ValidationResult(false, "Description is required");
+            return fail(Rule.DESCRIPTION_REQUIRED, "Description is required");
         }
 
         if (incident.getSeverity() == null) {
-            return new ValidationResult(false, "Severity is required");
+            return fail(Rule.SEVERITY_REQUIRED, "Severity is required");
         }
 
         return new ValidationResult(true, "Validation successful");
@@ -54,19 +75,19 @@ public class AIIncidentValidator {
      */
     public ValidationResult validate(AIIncidentDTO dto) {
         if (dto == null) {
-            return new ValidationResult(false, "Incident data cannot be null");
+            return fail(Rule.INCIDENT_REQUIRED, "Incident data cannot be null");
         }
 
         if (!StringUtils.hasText(dto.getTitle())) {
-            return new ValidationResult(false, "Title is required");
+            return fail(Rule.TITLE_REQUIRED, "Title is required");
         }
 
         if (!StringUtils.hasText(dto.getDescription())) {
-            return new ValidationResult(false, "Description is required");
+            return fail(Rule.DESCRIPTION_REQUIRED, "Description is required");
         }
 
         if (dto.getSeverity() == null) {
-            return new ValidationResult(false, "Severity is required");
+            return fail(Rule.SEVERITY_REQUIRED, "Severity is required");
         }
 
         return new ValidationResult(true, "Validation successful");
@@ -80,19 +101,19 @@ public class AIIncidentValidator {
      */
     public ValidationResult validate(AIIncidentCreateDTO dto) {
         if (dto == null) {
-            return new ValidationResult(false, "Incident data cannot be null");
+            return fail(Rule.INCIDENT_REQUIRED, "Incident data cannot be null");
         }
 
         if (!StringUtils.hasText(dto.getTitle())) {
-            return new ValidationResult(false, "Title is required");
+            return fail(Rule.TITLE_REQUIRED, "Title is required");
         }
 
         if (!StringUtils.hasText(dto.getDescription())) {
-            return new ValidationResult(false, "Description is required");
+            return fail(Rule.DESCRIPTION_REQUIRED, "Description is required");
         }
 
         if (dto.getSeverity() == null) {
-            return new ValidationResult(false, "Severity is required");
+            return fail(Rule.SEVERITY_REQUIRED, "Severity is required");
         }
 
         // Validate severity enum
@@ -102,13 +123,35 @@ public class AIIncidentValidator {
             String allowedValues = Arrays.stream(AIIncident.Severity.values())
                     .map(Enum::name)
                     .collect(Collectors.joining(", "));
-            return new ValidationResult(false,
-                    "Invalid severity value. Allowed values are: " + allowedValues);
+            return fail(Rule.SEVERITY_ALLOWED, "Invalid severity value. Allowed values are: " + allowedValues);
         }
 
         return new ValidationResult(true, "Validation successful");
     }
 
+    /**
+     * Counts a violated rule and builds the failed result
+     *
+     * @param rule    The violated rule
+     * @param message The validation message
+     * @return Failed ValidationResult
+     */
+    private ValidationResult fail(Rule rule, String message) {
+        failureCounters.get(rule).increment();
+        return new ValidationResult(false, message);
+    }
+
+    /**
+     * Enum representing the validation rules, used as the metric tag
+     */
+    enum Rule {
+        INCIDENT_REQUIRED,
+        TITLE_REQUIRED,
+        DESCRIPTION_REQUIRED,
+        SEVERITY_REQUIRED,
+        SEVERITY_ALLOWED
+    }
+
     /**
      * Represents the result of a validation operation
      */
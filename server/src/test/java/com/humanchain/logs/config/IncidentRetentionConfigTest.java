@@ -0,0 +1,88 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.model.AIIncident;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentRetentionConfig
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentRetentionConfigTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    @Test
+    void apply_ShouldReconcileTtlIndexesWithRetention() {
+        // Arrange
+        IncidentRetentionConfig config = new IncidentRetentionConfig(mongoTemplate,
+                Duration.ofDays(7), Duration.ZERO, Duration.ofDays(365));
+        when(mongoTemplate.indexOps(AIIncident.class)).thenReturn(indexOps);
+        when(mongoTemplate.getCollectionName(AIIncident.class)).thenReturn("incidents");
+        when(indexOps.getIndexInfo()).thenReturn(List.of(
+                ttlIndex(AIIncident.Severity.LOW, Duration.ofDays(30)),
+                ttlIndex(AIIncident.Severity.MEDIUM, Duration.ofDays(30))));
+
+        // Act
+        config.apply();
+
+        // Assert
+        ArgumentCaptor<Document> collMod = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).executeCommand(collMod.capture());
+        assertEquals(Duration.ofDays(7).toSeconds(),
+                collMod.getValue().get("index", Document.class).get("expireAfterSeconds"));
+        verify(indexOps).dropIndex(IncidentRetentionConfig.indexName(AIIncident.Severity.MEDIUM));
+
+        ArgumentCaptor<Index> created = ArgumentCaptor.forClass(Index.class);
+        verify(indexOps).ensureIndex(created.capture());
+        assertEquals(Duration.ofDays(365).toSeconds(), created.getValue().getIndexOptions().get("expireAfterSeconds"));
+        assertEquals(IncidentRetentionConfig.indexName(AIIncident.Severity.HIGH),
+                created.getValue().getIndexOptions().get("name"));
+    }
+
+    @Test
+    void apply_WhenRetentionUnchanged_ShouldNotModifyIndexes() {
+        // Arrange
+        IncidentRetentionConfig config = new IncidentRetentionConfig(mongoTemplate,
+                Duration.ofDays(30), Duration.ZERO, Duration.ZERO);
+        when(mongoTemplate.indexOps(AIIncident.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(ttlIndex(AIIncident.Severity.LOW, Duration.ofDays(30))));
+
+        // Act
+        config.apply();
+
+        // Assert
+        verify(mongoTemplate, never()).executeCommand(any(Document.class));
+        verify(indexOps, never()).ensureIndex(any());
+        verify(indexOps, never()).dropIndex(any());
+    }
+
+    private static IndexInfo ttlIndex(AIIncident.Severity severity, Duration expireAfter) {
+        return IndexInfo.indexInfoOf(new Document("name", IncidentRetentionConfig.indexName(severity))
+                .append("key", new Document("reportedAt", 1))
+                .append("expireAfterSeconds", expireAfter.toSeconds())
+                .append("partialFilterExpression", new Document("severity", severity.name())));
+    }
+}
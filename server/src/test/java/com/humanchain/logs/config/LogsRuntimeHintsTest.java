@@ -0,0 +1,54 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.dto.AIIncidentSummaryDTO;
+import com.humanchain.logs.dto.IncidentEventDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.serializer.ObjectIdDeserializer;
+import com.humanchain.logs.serializer.ObjectIdSerializer;
+import com.humanchain.logs.serializer.RawIncidentPageSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LogsRuntimeHints
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+class LogsRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new LogsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldAllowJacksonToInstantiateSerializers() {
+        // Act & Assert
+        for (Class<?> serializer : new Class<?>[] {
+                ObjectIdSerializer.class, ObjectIdDeserializer.class, RawIncidentPageSerializer.class }) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(serializer)
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints),
+                    serializer.getSimpleName());
+        }
+    }
+
+    @Test
+    void registerHints_ShouldCoverLombokAccessorsOfUnreachableTypes() throws Exception {
+        // Act & Assert
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(AIIncidentSummaryDTO.class.getMethod("getDescriptionTruncated")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(IncidentSearchHit.class.getMethod("setIncident", AIIncident.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(IncidentEventDTO.class).test(hints));
+    }
+}
@@ -0,0 +1,58 @@
+package com.humanchain.logs.config;
+
+import com.humanchain.logs.model.AIIncident;
+import com.mongodb.MongoCompressor;
+import com.mongodb.WriteConcern;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MongoDBConfig
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+class MongoDBConfigTest {
+
+    @Test
+    void writeConcernResolver_ShouldPickConcernOfOperationClass() {
+        // Arrange
+        WriteConcernResolver resolver = MongoDBConfig.writeConcernResolver(
+                MongoClientProperties.toWriteConcern("w1"), MongoClientProperties.toWriteConcern("majority"));
+
+        // Act & Assert
+        assertEquals(WriteConcern.W1, resolver.resolve(action(MongoActionOperation.INSERT)));
+        assertEquals(WriteConcern.MAJORITY, resolver.resolve(action(MongoActionOperation.REMOVE)));
+        assertEquals(WriteConcern.ACKNOWLEDGED, resolver.resolve(action(MongoActionOperation.UPDATE)));
+    }
+
+    @Test
+    void toWriteConcern_WithNodeCount_ShouldReturnConcern() {
+        // Act & Assert
+        assertEquals(new WriteConcern(2), MongoClientProperties.toWriteConcern("2"));
+        assertNull(MongoClientProperties.toWriteConcern(""));
+        assertThrows(IllegalArgumentException.class, () -> MongoClientProperties.toWriteConcern("most"));
+    }
+
+    @Test
+    void compressors_ShouldSkipUnavailableAndRejectUnknown() {
+        // Act
+        List<MongoCompressor> compressors = MongoDBConfig.compressors(List.of("zstd", "snappy", "zlib"));
+
+        // Assert
+        assertEquals(List.of("zstd", "zlib"), compressors.stream().map(MongoCompressor::getName).toList());
+        assertThrows(IllegalArgumentException.class, () -> MongoDBConfig.compressors(List.of("lz4")));
+    }
+
+    private static MongoAction action(MongoActionOperation operation) {
+        return new MongoAction(WriteConcern.ACKNOWLEDGED, operation, "aiIncident", AIIncident.class,
+                new Document(), new Document());
+    }
+}
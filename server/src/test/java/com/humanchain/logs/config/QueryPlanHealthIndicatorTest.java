@@ -0,0 +1,131 @@
+package com.humanchain.logs.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for QueryPlanHealthIndicator
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryPlanHealthIndicatorTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private QueryPlanHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new QueryPlanHealthIndicator(mongoTemplate);
+    }
+
+    @Test
+    void usesCollectionScan_WhenWinningPlanIsIndexScan_ShouldReturnFalse() {
+        // Arrange
+        Document explain = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "LIMIT")
+                        .append("inputStage", new Document("stage", "FETCH")
+                                .append("inputStage", new Document("stage", "IXSCAN")))));
+
+        // Act & Assert
+        assertFalse(QueryPlanHealthIndicator.usesCollectionScan(explain));
+    }
+
+    @Test
+    void usesCollectionScan_WhenNestedStageIsCollectionScan_ShouldReturnTrue() {
+        // Arrange
+        Document explain = new Document("queryPlanner", new Document("winningPlan",
+                new Document("queryPlan", new Document("stage", "SORT")
+                        .append("inputStage", new Document("stage", "COLLSCAN")))));
+
+        // Act & Assert
+        assertTrue(QueryPlanHealthIndicator.usesCollectionScan(explain));
+    }
+
+    @Test
+    void usesCollectionScan_WhenOnlyRejectedPlanScans_ShouldReturnFalse() {
+        // Arrange
+        Document explain = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "OR")
+                        .append("inputStages", List.of(new Document("stage", "IXSCAN"))))
+                .append("rejectedPlans", List.of(new Document("stage", "COLLSCAN"))));
+
+        // Act & Assert
+        assertFalse(QueryPlanHealthIndicator.usesCollectionScan(explain));
+    }
+
+    @Test
+    void usesCollectionScan_WhenPipelineCursorStageScans_ShouldReturnTrue() {
+        // Arrange
+        Document explain = new Document("stages", List.of(
+                new Document("$cursor", new Document("queryPlanner", new Document("winningPlan",
+                        new Document("stage", "PROJECTION_SIMPLE")
+                                .append("inputStage", new Document("stage", "COLLSCAN"))))),
+                new Document("$group", new Document("_id", "$severity"))));
+
+        // Act & Assert
+        assertTrue(QueryPlanHealthIndicator.usesCollectionScan(explain));
+    }
+
+    @Test
+    void canonicalPipelines_ShouldCoverSearchAndStats() {
+        // Act
+        Map<String, ?> pipelines = healthIndicator.canonicalPipelines();
+
+        // Assert
+        assertEquals(List.of("text-search", "stats"), List.copyOf(pipelines.keySet()));
+    }
+
+    @Test
+    void health_WhenNotVerified_ShouldReturnUnknown() {
+        // Act
+        Health health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UNKNOWN, health.getStatus());
+    }
+
+    @Test
+    void health_WhenCollectionScanAndFailReadinessEnabled_ShouldReturnOutOfService() {
+        // Arrange
+        ReflectionTestUtils.setField(healthIndicator, "failReadiness", true);
+        ReflectionTestUtils.setField(healthIndicator, "plans", Map.of("listing", "COLLSCAN"));
+        ReflectionTestUtils.setField(healthIndicator, "collectionScans", List.of("listing"));
+
+        // Act
+        Health health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(List.of("listing"), health.getDetails().get("collectionScans"));
+    }
+
+    @Test
+    void health_WhenCollectionScanAndFailReadinessDisabled_ShouldReturnUp() {
+        // Arrange
+        ReflectionTestUtils.setField(healthIndicator, "plans", Map.of("listing", "COLLSCAN"));
+        ReflectionTestUtils.setField(healthIndicator, "collectionScans", List.of("listing"));
+
+        // Act
+        Health health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+    }
+}
@@ -0,0 +1,158 @@
+package com.humanchain.logs.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.humanchain.logs.dto.IncidentPageDTO;
+import com.humanchain.logs.dto.RawIncidentPageDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.ApiResponse;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentPage;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RawIncidentPageSerializer
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+class RawIncidentPageSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void serialize_ShouldMatchEntityListingByteForByte() throws Exception {
+        // Arrange
+        LocalDateTime reportedAt = LocalDateTime.of(2025, 4, 27, 6, 4, 19, 120_000_000);
+        AIIncident single = new AIIncident(new ObjectId(), "Quote \" backslash \\ tab \t",
+                "Ünïcødé ✓ 😀 and a\nnewline", AIIncident.Severity.HIGH, reportedAt);
+        AIIncident noDescription = new AIIncident(new ObjectId(), "No description", null,
+                AIIncident.Severity.LOW, reportedAt.withNano(0));
+        AIIncident aggregated = new AIIncident(new ObjectId(), "Aggregated", "Reported again",
+                AIIncident.Severity.MEDIUM, reportedAt.withNano(100_000_000), "fingerprint", 7L,
+                reportedAt.plusMinutes(5).withNano(5_000_000), "key-1");
+        List<Document> documents = new ArrayList<>();
+        for (AIIncident incident : List.of(single, noDescription, aggregated)) {
+            Document document = new Document();
+            converter.write(incident, document);
+            documents.add(document);
+        }
+        // $inc on a missing field stores an int32
+        documents.get(2).put("occurrences", 7);
+
+        List<AIIncident> entities = new ArrayList<>();
+        List<RawBsonDocument> rawDocuments = new ArrayList<>();
+        for (Document document : documents) {
+            entities.add(converter.read(AIIncident.class, document));
+            rawDocuments.add(new RawBsonDocument(document, new DocumentCodec()));
+        }
+        IncidentCursor next = IncidentCursor.after(entities.get(2));
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        // Act
+        String expected = objectMapper.writeValueAsString(new ApiResponse<>(true, "Successfully retrieved incidents",
+                IncidentPageDTO.fromPage(new IncidentPage(entities, next)), timestamp, "SUCCESS"));
+        // Written for the declared type of the controller method, as the message converter does
+        String actual = objectMapper.writerFor(new TypeReference<ApiResponse<IncidentPageDTO<?>>>() {
+        }).writeValueAsString(new ApiResponse<>(true, "Successfully retrieved incidents",
+                new RawIncidentPageDTO(rawDocuments, next.encode(), true), timestamp, "SUCCESS"));
+
+        // Assert
+        assertEquals(expected, actual);
+        assertEquals(next, IncidentCursor.after(rawDocuments.get(2)));
+    }
+
+    @Test
+    void serialize_WithEmptyPage_ShouldMatchEntityListing() throws Exception {
+        // Arrange
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        // Act
+        String expected = objectMapper.writeValueAsString(new ApiResponse<>(true, "No incidents found in the database",
+                IncidentPageDTO.fromPage(new IncidentPage(List.of(), null)), timestamp, "SUCCESS"));
+        String actual = objectMapper.writeValueAsString(new ApiResponse<>(true, "No incidents found in the database",
+                new RawIncidentPageDTO(List.of(), null, false), timestamp, "SUCCESS"));
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void formatDateTime_ShouldMatchIsoLocalDateTime() {
+        // Arrange
+        Random random = new Random(42);
+        char[] chars = new char[24];
+
+        for (String zoneId : List.of("UTC", "Europe/Berlin", "America/St_Johns", "Asia/Kolkata")) {
+            ZoneRules rules = ZoneId.of(zoneId).getRules();
+            ZoneOffset fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+            for (int i = 0; i < 10_000; i++) {
+                // Between 1900 and 2100, with every third value on a whole second
+                long epochMillis = -2_208_988_800_000L + (long) (random.nextDouble() * 6_311_347_200_000L);
+                if (i % 3 == 0) {
+                    epochMillis -= Math.floorMod(epochMillis, 1000);
+                }
+
+                // Act
+                int length = RawIncidentPageSerializer.formatDateTime(epochMillis, rules, fixedOffset, chars);
+
+                // Assert
+                String expected = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.of(zoneId)));
+                assertEquals(expected, new String(chars, 0, length), "epoch millis " + epochMillis + " in " + zoneId);
+            }
+        }
+    }
+
+    @Test
+    void formatDateTime_WithFiveDigitYear_ShouldDeclineFormatting() {
+        // Arrange
+        ZoneRules rules = ZoneOffset.UTC.getRules();
+        long epochMillis = LocalDateTime.of(10_000, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        // Act
+        int length = RawIncidentPageSerializer.formatDateTime(epochMillis, rules, ZoneOffset.UTC, new char[24]);
+
+        // Assert
+        assertEquals(-1, length);
+    }
+}
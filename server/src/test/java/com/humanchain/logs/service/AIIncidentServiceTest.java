@@ -2,7 +2,20 @@ package com.humanchain.logs.service;
 
 import com.humanchain.logs.config.TestMongoDBConfig;
 import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCreation;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFields;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPage;
+import com.humanchain.logs.model.IncidentSearchCursor;
+import com.humanchain.logs.model.IncidentSearchHit;
+import com.humanchain.logs.model.IncidentSearchPage;
+import com.humanchain.logs.model.RawIncidentPage;
 import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,16 +23,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -54,19 +76,133 @@ class AIIncidentServiceTest {
     }
 
     @Test
-    void getAllIncidents_ShouldReturnAllIncidents() {
+    void getAllIncidents_WhenLastPage_ShouldReturnItemsWithoutCursor() {
         // Arrange
-        List<AIIncident> expectedIncidents = Arrays.asList(testIncident);
-        when(repository.findAll()).thenReturn(expectedIncidents);
+        IncidentFilter filter = IncidentFilter.none();
+        when(repository.findPage(filter, null, 51)).thenReturn(List.of(testIncident));
 
         // Act
-        List<AIIncident> actualIncidents = service.getAllIncidents();
+        IncidentPage page = service.getAllIncidents(filter, null, null);
 
         // Assert
-        assertNotNull(actualIncidents);
-        assertEquals(1, actualIncidents.size());
-        assertEquals(testIncident, actualIncidents.get(0));
-        verify(repository, times(1)).findAll();
+        assertNotNull(page);
+        assertEquals(1, page.getItems().size());
+        assertEquals(testIncident, page.getItems().get(0));
+        assertFalse(page.hasMore());
+        verify(repository, times(1)).findPage(filter, null, 51);
+    }
+
+    @Test
+    void getAllIncidents_WhenMoreAvailable_ShouldReturnCursorAfterLastItem() {
+        // Arrange
+        AIIncident older = new AIIncident(new ObjectId(), "Older", "Older Description",
+                AIIncident.Severity.LOW, testIncident.getReportedAt().minusMinutes(1));
+        IncidentFilter filter = IncidentFilter.none();
+        when(repository.findPage(filter, null, 2)).thenReturn(List.of(testIncident, older));
+
+        // Act
+        IncidentPage page = service.getAllIncidents(filter, null, 1);
+
+        // Assert
+        assertEquals(List.of(testIncident), page.getItems());
+        assertTrue(page.hasMore());
+        assertEquals(IncidentCursor.after(testIncident), page.getNext());
+    }
+
+    @Test
+    void getRawIncidents_WhenMoreAvailable_ShouldReturnCursorAfterLastDocument() {
+        // Arrange
+        LocalDateTime reportedAt = LocalDateTime.of(2025, 4, 27, 6, 4, 19, 212_000_000);
+        ObjectId newestId = new ObjectId();
+        RawBsonDocument newest = new RawBsonDocument(new Document("_id", newestId)
+                .append("reportedAt", Date.from(reportedAt.atZone(ZoneId.systemDefault()).toInstant())),
+                new DocumentCodec());
+        RawBsonDocument older = new RawBsonDocument(new Document("_id", new ObjectId())
+                .append("reportedAt", Date.from(reportedAt.minusMinutes(1).atZone(ZoneId.systemDefault()).toInstant())),
+                new DocumentCodec());
+        IncidentFilter filter = IncidentFilter.none();
+        when(repository.findRawPage(filter, null, 2)).thenReturn(List.of(newest, older));
+
+        // Act
+        RawIncidentPage page = service.getRawIncidents(filter, null, 1);
+
+        // Assert
+        assertEquals(List.of(newest), page.getItems());
+        assertTrue(page.hasMore());
+        assertEquals(new IncidentCursor(reportedAt, newestId), page.getNext());
+        verify(repository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllIncidents_WithFields_ShouldLoadOnlyThoseFields() {
+        // Arrange
+        IncidentFilter filter = IncidentFilter.none();
+        IncidentFields fields = IncidentFields.parse("title,preview");
+        when(repository.findPage(eq(filter), isNull(), eq(51), any(IncidentFields.class)))
+                .thenReturn(List.of(testIncident));
+
+        // Act
+        IncidentPage page = service.getAllIncidents(filter, null, null, fields);
+
+        // Assert
+        assertEquals(160, page.getFields().getPreviewLength());
+        assertTrue(page.getFields().isPreviewOnly());
+        verify(repository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllIncidents_WithCursor_ShouldSeekPastCursor() {
+        // Arrange
+        IncidentCursor cursor = IncidentCursor.after(testIncident);
+        IncidentFilter filter = IncidentFilter.none();
+        when(repository.findPage(filter, cursor, 51)).thenReturn(List.of());
+
+        // Act
+        IncidentPage page = service.getAllIncidents(filter, cursor.encode(), null);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        verify(repository, times(1)).findPage(filter, cursor, 51);
+    }
+
+    @Test
+    void getAllIncidents_WithMalformedCursor_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getAllIncidents(IncidentFilter.none(), "not-a-cursor", null));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchIncidents_WhenMoreAvailable_ShouldReturnCursorAfterLastHit() {
+        // Arrange
+        IncidentFilter filter = IncidentFilter.none();
+        IncidentSearchHit first = new IncidentSearchHit(testIncident, 2.0);
+        IncidentSearchHit second = new IncidentSearchHit(
+                new AIIncident(new ObjectId(), "Other", "Other", AIIncident.Severity.LOW, LocalDateTime.now()), 1.0);
+        when(repository.search("drift", filter, null, 2)).thenReturn(List.of(first, second));
+
+        // Act
+        IncidentSearchPage page = service.searchIncidents(" drift ", filter, null, 1);
+
+        // Assert
+        assertEquals(List.of(first), page.getHits());
+        assertEquals(new IncidentSearchCursor(2.0, testId), page.getNext());
+    }
+
+    @Test
+    void searchIncidents_WithBlankText_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.searchIncidents("  ", IncidentFilter.none(), null, null));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void resolvePageSize_ShouldClampToConfiguredBounds() {
+        assertEquals(50, service.resolvePageSize(null));
+        assertEquals(50, service.resolvePageSize(0));
+        assertEquals(10, service.resolvePageSize(10));
+        assertEquals(500, service.resolvePageSize(10_000));
     }
 
     @Test
@@ -112,11 +248,175 @@ class AIIncidentServiceTest {
     }
 
     @Test
-    void deleteIncident_ShouldCallRepositoryDelete() {
+    void deleteIncident_ShouldDeleteInOneRoundTrip() {
+        // Arrange
+        when(repository.removeAllById(List.of(testId))).thenReturn(1L);
+
+        // Act
+        boolean deleted = service.deleteIncident(testId);
+
+        // Assert
+        assertTrue(deleted);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void getIncidentById_WithCache_ShouldHitDatabaseOnce() {
+        // Arrange
+        service.setCache(newCache());
+        when(repository.findById(testId)).thenReturn(Optional.of(testIncident));
+
+        // Act
+        Optional<AIIncident> first = service.getIncidentById(testId);
+        Optional<AIIncident> second = service.getIncidentById(testId);
+
+        // Assert
+        assertEquals(Optional.of(testIncident), first);
+        assertEquals(Optional.of(testIncident), second);
+        verify(repository, times(1)).findById(testId);
+    }
+
+    @Test
+    void getIncidentById_WithCache_ShouldCacheMissingIncident() {
+        // Arrange
+        service.setCache(newCache());
+        when(repository.findById(testId)).thenReturn(Optional.empty());
+
+        // Act
+        service.getIncidentById(testId);
+        Optional<AIIncident> result = service.getIncidentById(testId);
+
+        // Assert
+        assertFalse(result.isPresent());
+        verify(repository, times(1)).findById(testId);
+    }
+
+    @Test
+    void createIncident_WithCache_ShouldReplaceCachedMiss() {
+        // Arrange
+        service.setCache(newCache());
+        when(repository.findById(testId)).thenReturn(Optional.empty());
+        when(repository.save(testIncident)).thenReturn(testIncident);
+        service.getIncidentById(testId);
+
+        // Act
+        service.createIncident(testIncident);
+        Optional<AIIncident> result = service.getIncidentById(testId);
+
+        // Assert
+        assertEquals(Optional.of(testIncident), result);
+        verify(repository, times(1)).findById(testId);
+    }
+
+    @Test
+    void deleteIncident_WithCache_ShouldInvalidateEntry() {
+        // Arrange
+        service.setCache(newCache());
+        when(repository.findById(testId)).thenReturn(Optional.of(testIncident), Optional.empty());
+        service.getIncidentById(testId);
+
         // Act
         service.deleteIncident(testId);
+        Optional<AIIncident> result = service.getIncidentById(testId);
 
         // Assert
-        verify(repository, times(1)).deleteById(testId);
+        assertFalse(result.isPresent());
+        verify(repository, times(2)).findById(testId);
+    }
+
+    @Test
+    void deleteIncident_WithChangeListener_ShouldNotifyDeletedIncident() {
+        // Arrange
+        IncidentChangeListener changeListener = mock(IncidentChangeListener.class);
+        service.setChangeListeners(List.of(changeListener));
+        when(repository.findAndRemoveById(testId)).thenReturn(Optional.of(testIncident));
+
+        // Act
+        service.deleteIncident(testId);
+
+        // Assert
+        verify(changeListener, times(1)).incidentDeleted(testIncident);
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void deleteIncidents_WithChangeListener_ShouldNotifyOnce() {
+        // Arrange
+        IncidentChangeListener changeListener = mock(IncidentChangeListener.class);
+        service.setChangeListeners(List.of(changeListener));
+        List<ObjectId> ids = List.of(testId, new ObjectId());
+        when(repository.findAllById(ids)).thenReturn(List.of(testIncident));
+        when(repository.removeAllById(List.of(testId))).thenReturn(1L);
+
+        // Act
+        long deleted = service.deleteIncidents(ids);
+
+        // Assert
+        assertEquals(1, deleted);
+        verify(changeListener, times(1)).incidentsDeleted(List.of(testIncident));
+    }
+
+    @Test
+    void deleteIncidents_WhenSomeRemovedConcurrently_ShouldNotifyAsConcurrent() {
+        // Arrange
+        IncidentChangeListener changeListener = mock(IncidentChangeListener.class);
+        service.setChangeListeners(List.of(changeListener));
+        AIIncident other = new AIIncident(new ObjectId(), "Other", "Other Description",
+                AIIncident.Severity.LOW, LocalDateTime.now());
+        List<ObjectId> ids = List.of(testId, other.getId());
+        when(repository.findAllById(ids)).thenReturn(List.of(testIncident, other));
+        when(repository.removeAllById(ids)).thenReturn(1L);
+
+        // Act
+        long deleted = service.deleteIncidents(ids);
+
+        // Assert
+        assertEquals(1, deleted);
+        verify(changeListener).incidentsDeletedConcurrently(List.of(testIncident, other));
+        verify(changeListener, never()).incidentsDeleted(any());
+    }
+
+    @Test
+    void createIncident_WithConcurrentSameKey_ShouldWriteOnce() throws Exception {
+        // Arrange
+        service.setIdempotencyKeys(new IdempotencyKeyCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch saved = new CountDownLatch(1);
+        when(repository.save(any(AIIncident.class))).thenAnswer(invocation -> {
+            saving.countDown();
+            saved.await(5, TimeUnit.SECONDS);
+            return testIncident;
+        });
+
+        // Act
+        CompletableFuture<IncidentCreation> first = CompletableFuture.supplyAsync(
+                () -> service.createIncident(new AIIncident(), "key-1"));
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<IncidentCreation> second = CompletableFuture.supplyAsync(
+                () -> service.createIncident(new AIIncident(), "key-1"));
+        saved.countDown();
+
+        // Assert
+        assertEquals(new IncidentCreation(testId, false), first.get(5, TimeUnit.SECONDS));
+        assertEquals(new IncidentCreation(testId, true), second.get(5, TimeUnit.SECONDS));
+        verify(repository, times(1)).save(any(AIIncident.class));
+    }
+
+    @Test
+    void createIncident_WhenKeyAlreadyStored_ShouldReturnExistingIncident() {
+        // Arrange
+        when(repository.save(any(AIIncident.class))).thenThrow(new DuplicateKeyException("E11000"));
+        when(repository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(testIncident));
+
+        // Act
+        IncidentCreation creation = service.createIncident(new AIIncident(), "key-1");
+
+        // Assert
+        assertTrue(creation.isReplayed());
+        assertEquals(testId, creation.getId());
+    }
+
+    private static IncidentCache newCache() {
+        return new IncidentCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.dto.IncidentBatchResultDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import com.humanchain.logs.validation.AIIncidentValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentBatchService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentBatchServiceTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    private IncidentBatchService batchService;
+    private List<Integer> chunkSizes;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new IncidentBatchService(repository, new AIIncidentValidator(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "maxItems", 10);
+        chunkSizes = new ArrayList<>();
+    }
+
+    @Test
+    void createIncidents_ShouldInsertValidItemsInChunks() {
+        // Arrange
+        when(repository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            chunkSizes.add(invocation.<List<AIIncident>>getArgument(0).size());
+            return Map.of();
+        });
+        List<AIIncidentCreateDTO> incidents = List.of(valid("One"), valid("Two"), valid("Three"));
+
+        // Act
+        IncidentBatchResultDTO result = batchService.createIncidents(incidents);
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertEquals(List.of(2, 1), chunkSizes);
+        result.getResults().forEach(item -> assertNotNull(item.getId()));
+    }
+
+    @Test
+    void createIncidents_WithInvalidItem_ShouldReportErrorAndCreateOthers() {
+        // Arrange
+        when(repository.insertUnordered(anyList())).thenReturn(Map.of());
+        AIIncidentCreateDTO invalid = new AIIncidentCreateDTO("", "No title", AIIncident.Severity.LOW);
+        List<AIIncidentCreateDTO> incidents = List.of(valid("One"), invalid, valid("Three"));
+
+        // Act
+        IncidentBatchResultDTO result = batchService.createIncidents(incidents);
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getResults().get(1).getIndex());
+        assertEquals("Title is required", result.getResults().get(1).getError());
+        assertNull(result.getResults().get(1).getId());
+        assertNotNull(result.getResults().get(2).getId());
+    }
+
+    @Test
+    void createIncidents_WithWriteErrors_ShouldMapErrorsToBatchPositions() {
+        // Arrange
+        when(repository.insertUnordered(anyList()))
+                .thenReturn(Map.of(1, "E11000 duplicate key"))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+        List<AIIncidentCreateDTO> incidents = List.of(valid("One"), valid("Two"), valid("Three"));
+
+        // Act
+        IncidentBatchResultDTO result = batchService.createIncidents(incidents);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals("E11000 duplicate key", result.getResults().get(1).getError());
+        assertEquals("Database write failed, please retry", result.getResults().get(2).getError());
+    }
+
+    @Test
+    void createIncidents_WhenTooLarge_ShouldThrow() {
+        List<AIIncidentCreateDTO> incidents = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            incidents.add(valid("Incident " + i));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.createIncidents(incidents));
+        verifyNoInteractions(repository);
+    }
+
+    private static AIIncidentCreateDTO valid(String title) {
+        return new AIIncidentCreateDTO(title, "Description of " + title, AIIncident.Severity.MEDIUM);
+    }
+}
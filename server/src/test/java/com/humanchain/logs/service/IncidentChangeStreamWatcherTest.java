@@ -0,0 +1,101 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.mongodb.MongoCommandException;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentChangeStreamWatcher
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentChangeStreamWatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IncidentChangeStreamListener listener;
+
+    private IncidentChangeStreamWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        lenient().when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        lenient().when(mongoTemplate.getCollectionName(AIIncident.class)).thenReturn("incidents");
+        watcher = new IncidentChangeStreamWatcher(mongoTemplate, Duration.ofMillis(10), Duration.ofMillis(50));
+        watcher.setListeners(List.of(listener));
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    void onError_WhenStreamFails_ShouldFallBackAndReopen() {
+        // Act
+        ReflectionTestUtils.invokeMethod(watcher, "onError",
+                new DataAccessResourceFailureException("not primary"));
+
+        // Assert
+        verify(listener, timeout(1000)).changeStreamActive(true);
+        assertTrue(watcher.isActive());
+    }
+
+    @Test
+    void onError_AfterStop_ShouldNotReopen() throws InterruptedException {
+        // Arrange
+        watcher.stop();
+
+        // Act
+        ReflectionTestUtils.invokeMethod(watcher, "onError",
+                new DataAccessResourceFailureException("not primary"));
+        Thread.sleep(50);
+
+        // Assert
+        assertFalse(watcher.isActive());
+        verify(mongoTemplate, never()).getCollectionName(any());
+    }
+
+    @Test
+    void historyLost_ShouldDetectWrappedChangeStreamHistoryLost() {
+        // Arrange
+        MongoCommandException historyLost = new MongoCommandException(new BsonDocument("ok", new BsonInt32(0))
+                .append("code", new BsonInt32(286))
+                .append("errmsg", new BsonString("resume point may no longer be in the oplog")), null);
+        MongoCommandException notPrimary = new MongoCommandException(new BsonDocument("ok", new BsonInt32(0))
+                .append("code", new BsonInt32(10107))
+                .append("errmsg", new BsonString("not primary")), null);
+
+        // Act & Assert
+        assertTrue(IncidentChangeStreamWatcher.historyLost(
+                new UncategorizedMongoDbException(historyLost.getMessage(), historyLost)));
+        assertFalse(IncidentChangeStreamWatcher.historyLost(notPrimary));
+    }
+}
@@ -0,0 +1,199 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentDeduplicator
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentDeduplicatorTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    @Mock
+    private IncidentChangeListener changeListener;
+
+    private MeterRegistry meterRegistry;
+    private IncidentDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new IncidentDeduplicator(repository, meterRegistry,
+                Duration.ofMinutes(10), 100, Duration.ofHours(1));
+        deduplicator.setChangeListeners(List.of(changeListener));
+    }
+
+    @Test
+    void ingest_WithRepeatedReports_ShouldStoreOnceAndFlushCount() {
+        // Arrange
+        AIIncident stored = storedAggregate(1);
+        when(repository.upsertOccurrence(any(), anyLong(), any(), any())).thenReturn(stored);
+
+        // Act
+        IncidentDeduplicator.Outcome first = deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+        IncidentDeduplicator.Outcome second = deduplicator.ingest(report("  model  DRIFT", "accuracy dropped "));
+        deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+        deduplicator.flush();
+
+        // Assert
+        assertTrue(first.created());
+        assertFalse(second.created());
+        assertEquals(stored.getId(), second.incident().getId());
+        verify(repository, times(1)).upsertOccurrence(any(), anyLong(), any(), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<AIIncident>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).addOccurrences(deltas.capture());
+        AIIncident delta = deltas.getValue().iterator().next();
+        assertEquals(stored.getId(), delta.getId());
+        assertEquals(2L, delta.getOccurrences());
+        assertEquals(2.0, meterRegistry.counter("incidents.dedup.duplicates").count());
+        verify(changeListener).incidentsUpdated(deltas.getValue());
+    }
+
+    @Test
+    void ingest_WhenUpsertFindsExistingAggregate_ShouldNotReportCreated() {
+        // Arrange
+        when(repository.upsertOccurrence(any(), anyLong(), any(), any())).thenReturn(storedAggregate(7));
+
+        // Act
+        IncidentDeduplicator.Outcome outcome = deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+
+        // Assert
+        assertFalse(outcome.created());
+        assertEquals(1, deduplicator.size());
+        verify(changeListener).incidentsUpdated(List.of(outcome.incident()));
+    }
+
+    @Test
+    void ingest_WithConcurrentFirstReports_ShouldUpsertOnce() throws Exception {
+        // Arrange
+        AIIncident stored = storedAggregate(1);
+        CountDownLatch upserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.upsertOccurrence(any(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            upserting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return stored;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<IncidentDeduplicator.Outcome>> outcomes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            outcomes.add(executor.submit(() -> deduplicator.ingest(report("Model drift", "Accuracy dropped"))));
+        }
+        assertTrue(upserting.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+        long created = 0;
+        for (Future<IncidentDeduplicator.Outcome> outcome : outcomes) {
+            IncidentDeduplicator.Outcome result = outcome.get(5, TimeUnit.SECONDS);
+            assertEquals(stored.getId(), result.incident().getId());
+            created += result.created() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, created);
+        verify(repository, times(1)).upsertOccurrence(any(), anyLong(), any(), any());
+        assertEquals(7.0, meterRegistry.counter("incidents.dedup.duplicates").count());
+    }
+
+    @Test
+    void ingest_AfterIncidentWasDeleted_ShouldUpsertAgain() {
+        // Arrange
+        AIIncident stored = storedAggregate(1);
+        when(repository.upsertOccurrence(any(), anyLong(), any(), any())).thenReturn(stored);
+        deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+
+        // Act
+        deduplicator.incidentDeleted(stored);
+        IncidentDeduplicator.Outcome outcome = deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+        deduplicator.incidentRemoved(stored.getId());
+
+        // Assert
+        assertTrue(outcome.created());
+        verify(repository, times(2)).upsertOccurrence(any(), eq(1L), any(), any());
+        assertEquals(0, deduplicator.size());
+    }
+
+    @Test
+    void flush_WhenIncidentWasDeletedUnnoticed_ShouldStoreCountsAsNewIncident() {
+        // Arrange
+        AIIncident stored = storedAggregate(1);
+        AIIncident recreated = storedAggregate(2);
+        when(repository.upsertOccurrence(any(), anyLong(), any(), any())).thenReturn(stored, recreated);
+        when(repository.addOccurrences(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+        deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+        deduplicator.ingest(report("Model drift", "Accuracy dropped"));
+
+        // Act
+        deduplicator.flush();
+
+        // Assert
+        ArgumentCaptor<AIIncident> incident = ArgumentCaptor.forClass(AIIncident.class);
+        verify(repository).upsertOccurrence(incident.capture(), eq(2L), any(), any());
+        assertNull(incident.getValue().getId());
+        assertEquals(IncidentDeduplicator.fingerprint(stored), incident.getValue().getFingerprint());
+        verify(changeListener).incidentsCreated(List.of(recreated));
+        verify(changeListener, never()).incidentsUpdated(any());
+        assertEquals(0, deduplicator.size());
+    }
+
+    @Test
+    void fingerprint_ShouldDifferBySeverity() {
+        // Arrange
+        AIIncident low = report("Model drift", "Accuracy dropped");
+        AIIncident high = report("Model drift", "Accuracy dropped");
+        high.setSeverity(AIIncident.Severity.HIGH);
+
+        // Act & Assert
+        assertNotEquals(IncidentDeduplicator.fingerprint(low), IncidentDeduplicator.fingerprint(high));
+    }
+
+    private static AIIncident report(String title, String description) {
+        return new AIIncident(null, title, description, AIIncident.Severity.LOW, LocalDateTime.now());
+    }
+
+    private static AIIncident storedAggregate(long occurrences) {
+        AIIncident stored = report("Model drift", "Accuracy dropped");
+        stored.setId(new ObjectId());
+        stored.setOccurrences(occurrences);
+        stored.setLastSeenAt(LocalDateTime.now());
+        return stored;
+    }
+}
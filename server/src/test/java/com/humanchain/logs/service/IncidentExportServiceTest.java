@@ -0,0 +1,91 @@
+package com.humanchain.logs.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentExportService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentExportServiceTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    private ObjectMapper objectMapper;
+    private IncidentExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        exportService = new IncidentExportService(repository, objectMapper);
+    }
+
+    @Test
+    void exportIncidents_ShouldWriteOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        AIIncident first = new AIIncident(new ObjectId(), "First", "First Description",
+                AIIncident.Severity.HIGH, LocalDateTime.of(2025, 4, 27, 6, 4, 19));
+        AIIncident second = new AIIncident(new ObjectId(), "Second", "Second Description",
+                AIIncident.Severity.LOW, LocalDateTime.of(2025, 4, 27, 6, 5, 0));
+        IncidentFilter filter = IncidentFilter.none();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamAll(eq(filter), isNull(), anyInt()))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportIncidents(filter, null, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals(first.getId().toHexString(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("2025-04-27T06:05:00", objectMapper.readTree(lines[1]).get("reportedAt").asText());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportIncidents_WithResumeId_ShouldPassIdToRepository() throws Exception {
+        // Arrange
+        ObjectId afterId = new ObjectId();
+        IncidentFilter filter = new IncidentFilter(AIIncident.Severity.HIGH, null, null, null);
+        when(repository.streamAll(eq(filter), eq(afterId), anyInt())).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportIncidents(filter, afterId, out);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+        verify(repository, times(1)).streamAll(eq(filter), eq(afterId), anyInt());
+    }
+}
@@ -0,0 +1,179 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentIngestQueue
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentIngestQueueTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    private MeterRegistry meterRegistry;
+    private IncidentIngestQueue ingestQueue;
+    private List<Integer> writtenBatches;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ingestQueue != null) {
+            ingestQueue.stop();
+        }
+    }
+
+    @Test
+    void offer_ShouldFlushQueuedIncidentsInBatches() throws InterruptedException {
+        // Arrange
+        recordBatches();
+        ingestQueue = new IncidentIngestQueue(repository, meterRegistry, 100, 2, 50, 3);
+        ingestQueue.start();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertTrue(ingestQueue.offer(incident()));
+        }
+        ingestQueue.stop();
+
+        // Assert
+        assertEquals(5, writtenBatches.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(writtenBatches.stream().allMatch(size -> size <= 2));
+        assertEquals(5.0, meterRegistry.counter("incidents.ingest.written").count());
+        assertEquals(0, ingestQueue.depth());
+    }
+
+    @Test
+    void offer_WhenQueueFull_ShouldRejectAndCountDrop() {
+        // Arrange: writer not started, so nothing drains the queue
+        ingestQueue = new IncidentIngestQueue(repository, meterRegistry, 1, 10, 50, 3);
+        ReflectionTestUtils.setField(ingestQueue, "running", true);
+
+        // Act
+        boolean first = ingestQueue.offer(incident());
+        boolean second = ingestQueue.offer(incident());
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1.0, meterRegistry.counter("incidents.ingest.rejected").count());
+        assertEquals(1.0, meterRegistry.get("incidents.ingest.queue.depth").gauge().value());
+    }
+
+    @Test
+    void flush_WhenWritesKeepFailing_ShouldDropBatchAfterRetries() throws InterruptedException {
+        // Arrange
+        when(repository.insertUnordered(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+        ingestQueue = new IncidentIngestQueue(repository, meterRegistry, 10, 10, 10, 2);
+        ingestQueue.start();
+
+        // Act
+        ingestQueue.offer(incident());
+        ingestQueue.stop();
+
+        // Assert
+        verify(repository, times(2)).insertUnordered(anyList());
+        assertEquals(1.0, meterRegistry.counter("incidents.ingest.failed").count());
+    }
+
+    @Test
+    void flush_WhenIncidentIsNotWritten_ShouldEvictItFromCache() throws InterruptedException {
+        // Arrange
+        AIIncident rejected = incident();
+        AIIncident written = incident();
+        when(repository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            int index = invocation.<List<AIIncident>>getArgument(0).indexOf(rejected);
+            return index < 0 ? Map.of() : Map.of(index, "duplicate key");
+        });
+        IncidentCache cache = new IncidentCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        ingestQueue = new IncidentIngestQueue(repository, meterRegistry, 10, 10, 10, 2);
+        ingestQueue.setCache(cache);
+        ingestQueue.start();
+        cache.put(rejected);
+        cache.put(written);
+
+        // Act
+        ingestQueue.offer(rejected);
+        ingestQueue.offer(written);
+        ingestQueue.stop();
+
+        // Assert
+        assertTrue(cache.get(rejected.getId(), id -> Optional.empty()).isEmpty());
+        assertTrue(cache.get(written.getId(), id -> Optional.empty()).isPresent());
+    }
+
+    @Test
+    void flush_WhenRetryFindsIncidentsWrittenByFailedAttempt_ShouldCountThemAsWritten() throws InterruptedException {
+        // Arrange
+        AIIncident incident = incident();
+        when(repository.insertUnordered(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("timeout"))
+                .thenReturn(Map.of(0, "E11000 duplicate key error index: _id_"));
+        when(repository.findExistingIds(List.of(incident.getId()))).thenReturn(Set.of(incident.getId()));
+        IncidentCache cache = new IncidentCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        IncidentChangeListener changeListener = mock(IncidentChangeListener.class);
+        ingestQueue = new IncidentIngestQueue(repository, meterRegistry, 10, 10, 10, 2);
+        ingestQueue.setCache(cache);
+        ingestQueue.setChangeListeners(List.of(changeListener));
+        ingestQueue.start();
+        cache.put(incident);
+
+        // Act
+        ingestQueue.offer(incident);
+        ingestQueue.stop();
+
+        // Assert
+        assertTrue(cache.get(incident.getId(), id -> Optional.empty()).isPresent());
+        verify(changeListener).incidentsCreated(List.of(incident));
+        assertEquals(1.0, meterRegistry.counter("incidents.ingest.written").count());
+        assertEquals(0.0, meterRegistry.counter("incidents.ingest.failed").count());
+    }
+
+    private void recordBatches() {
+        when(repository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            writtenBatches.add(invocation.<List<AIIncident>>getArgument(0).size());
+            return Map.of();
+        });
+    }
+
+    private static AIIncident incident() {
+        AIIncident incident = new AIIncident();
+        incident.setId(new ObjectId());
+        incident.setTitle("Queued");
+        incident.setDescription("Queued Description");
+        incident.setSeverity(AIIncident.Severity.LOW);
+        return incident;
+    }
+}
@@ -0,0 +1,106 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentPurgeJob;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentPurgeService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentPurgeServiceTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    @Mock
+    private AIIncidentService incidentService;
+
+    private MeterRegistry meterRegistry;
+    private IncidentPurgeService purgeService;
+    private IncidentFilter range;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new IncidentPurgeService(repository, incidentService, meterRegistry, 2, 0, 10, 10);
+        range = new IncidentFilter(AIIncident.Severity.LOW, null, LocalDateTime.now(), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        purgeService.stop();
+    }
+
+    @Test
+    void run_ShouldDeleteChunksUntilRangeIsEmpty() {
+        // Arrange
+        IncidentPurgeJob job = new IncidentPurgeJob("job", range);
+        when(repository.countMatching(range)).thenReturn(3L);
+        when(repository.findPurgeChunk(range, 2)).thenReturn(
+                List.of(incident(), incident()), List.of(incident()), List.of());
+        when(incidentService.deleteLoaded(anyList())).thenReturn(2L, 1L);
+
+        // Act
+        purgeService.run(job);
+
+        // Assert
+        assertEquals(IncidentPurgeJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getMatched());
+        assertEquals(3, job.getDeleted());
+        assertEquals(2, job.getChunks());
+        assertEquals(3.0, meterRegistry.counter("incidents.purge.deleted").count());
+    }
+
+    @Test
+    void run_WhenChunkFails_ShouldKeepProgressAndFail() {
+        // Arrange
+        IncidentPurgeJob job = new IncidentPurgeJob("job", range);
+        when(repository.findPurgeChunk(range, 2)).thenReturn(List.of(incident(), incident()))
+                .thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+        when(incidentService.deleteLoaded(anyList())).thenReturn(2L);
+
+        // Act
+        purgeService.run(job);
+
+        // Assert
+        assertEquals(IncidentPurgeJob.Status.FAILED, job.getStatus());
+        assertEquals(2, job.getDeleted());
+        assertEquals("primary stepped down", job.getError());
+    }
+
+    @Test
+    void submit_WithoutReportedAtBound_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> purgeService.submit(new IncidentFilter(AIIncident.Severity.LOW, null, null, null)));
+        verify(repository, never()).findPurgeChunk(any(), eq(2));
+    }
+
+    private static AIIncident incident() {
+        return new AIIncident(new ObjectId(), null, null, AIIncident.Severity.LOW, LocalDateTime.now());
+    }
+}
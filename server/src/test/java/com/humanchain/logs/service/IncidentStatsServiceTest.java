@@ -0,0 +1,115 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.dto.IncidentStatsDTO;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.model.IncidentStatsBucket;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentStatsService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentStatsServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 4, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 4, 1, 23, 59);
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    @InjectMocks
+    private IncidentStatsService statsService;
+
+    @Test
+    void getStats_ShouldSumBucketsPerSeverity() {
+        // Arrange
+        IncidentStatsBucket.Unit unit = IncidentStatsBucket.Unit.HOUR;
+        IncidentFilter filter = new IncidentFilter(null, FROM, TO, null);
+        when(repository.countByBucket(filter, unit)).thenReturn(List.of(
+                IncidentStatsBucket.of(unit, FROM, AIIncident.Severity.HIGH, 2),
+                IncidentStatsBucket.of(unit, FROM, AIIncident.Severity.LOW, 1),
+                IncidentStatsBucket.of(unit, FROM.plusHours(3), AIIncident.Severity.HIGH, 4)));
+
+        // Act
+        IncidentStatsDTO stats = statsService.getStats(null, FROM, TO, unit);
+
+        // Assert
+        assertEquals(7, stats.getTotal());
+        assertEquals(6L, stats.getBySeverity().get(AIIncident.Severity.HIGH));
+        assertEquals(0L, stats.getBySeverity().get(AIIncident.Severity.MEDIUM));
+        assertEquals(2, stats.getBuckets().size());
+        assertEquals(3, stats.getBuckets().get(0).getTotal());
+        assertEquals(FROM.plusHours(3), stats.getBuckets().get(1).getStart());
+    }
+
+    @Test
+    void getStats_WithInvertedRange_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> statsService.getStats(null, TO, FROM, IncidentStatsBucket.Unit.HOUR));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getStats_WithTooManyBuckets_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> statsService.getStats(null, FROM.minusYears(1), TO, IncidentStatsBucket.Unit.MINUTE));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getStats_WithStatsRollup_ShouldReadPreAggregatedBuckets() {
+        // Arrange
+        IncidentStatsRollup statsRollup = mock(IncidentStatsRollup.class);
+        statsService.setRollup(statsRollup);
+        when(statsRollup.find(any(IncidentFilter.class), eq(IncidentStatsBucket.Unit.DAY)))
+                .thenReturn(List.of(IncidentStatsBucket.of(
+                        IncidentStatsBucket.Unit.DAY, FROM, AIIncident.Severity.MEDIUM, 5)));
+
+        // Act
+        IncidentStatsDTO stats = statsService.getStats(null, FROM, TO, IncidentStatsBucket.Unit.DAY);
+
+        // Assert
+        assertEquals(5, stats.getTotal());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deltas_ShouldGroupIncidentsPerUnitBucketAndSeverity() {
+        // Arrange
+        List<AIIncident> incidents = new ArrayList<>();
+        incidents.add(new AIIncident(null, "A", "A", AIIncident.Severity.HIGH, FROM.plusMinutes(1)));
+        incidents.add(new AIIncident(null, "B", "B", AIIncident.Severity.HIGH, FROM.plusMinutes(2)));
+
+        // Act
+        List<IncidentStatsBucket> deltas = new ArrayList<>(IncidentStatsRollup.deltas(incidents, -1));
+
+        // Assert
+        assertEquals(4, deltas.size());
+        assertEquals(-1, deltas.stream()
+                .filter(delta -> delta.getUnit() == IncidentStatsBucket.Unit.MINUTE)
+                .findFirst().orElseThrow().getCount());
+        assertEquals(-2, deltas.stream()
+                .filter(delta -> delta.getUnit() == IncidentStatsBucket.Unit.DAY)
+                .findFirst().orElseThrow().getCount());
+    }
+}
@@ -0,0 +1,184 @@
+package com.humanchain.logs.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.humanchain.logs.model.AIIncident;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for IncidentStreamService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+class IncidentStreamServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final Map<SseEmitter, BlockingQueue<String>> sent = new ConcurrentHashMap<>();
+    private CountDownLatch sendGate;
+    private IncidentStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        sendGate = new CountDownLatch(0);
+        streamService = newService(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void incidentsCreated_ShouldOnlyReachSubscribersOfMatchingSeverity() throws Exception {
+        // Arrange
+        SseEmitter all = streamService.subscribe(null, null);
+        SseEmitter high = streamService.subscribe(AIIncident.Severity.HIGH, null);
+        nextEvent(all);
+        nextEvent(high);
+
+        // Act
+        streamService.incidentsCreated(List.of(incident(AIIncident.Severity.LOW)));
+
+        // Assert
+        String event = nextEvent(all);
+        assertTrue(event.contains("event:created"));
+        assertTrue(event.contains("\"severity\":\"LOW\""));
+        assertNull(sent.get(high).poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedEvents() throws Exception {
+        // Arrange
+        SseEmitter first = streamService.subscribe(null, null);
+        nextEvent(first);
+        AIIncident seen = incident(AIIncident.Severity.HIGH);
+        streamService.incidentsCreated(List.of(seen));
+        String lastEventId = idOf(nextEvent(first));
+        AIIncident missed = incident(AIIncident.Severity.LOW);
+        streamService.incidentDeleted(missed);
+
+        // Act
+        SseEmitter resumed = streamService.subscribe(null, lastEventId);
+
+        // Assert
+        String event = nextEvent(resumed);
+        assertTrue(event.contains("event:deleted"));
+        assertTrue(event.contains(missed.getId().toHexString()));
+    }
+
+    @Test
+    void subscribe_WithUnknownLastEventId_ShouldSendReset() throws Exception {
+        // Act
+        SseEmitter emitter = streamService.subscribe(null, "unknown-42");
+
+        // Assert
+        assertTrue(nextEvent(emitter).contains("event:" + IncidentStreamService.RESET_EVENT));
+    }
+
+    @Test
+    void deliver_WhenBufferOverflows_ShouldDisconnectSubscriber() throws Exception {
+        // Arrange
+        sendGate = new CountDownLatch(1);
+        streamService.shutdown();
+        streamService = newService(2);
+        streamService.subscribe(null, null);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            streamService.incidentsCreated(List.of(incident(AIIncident.Severity.LOW)));
+        }
+
+        // Assert
+        assertEquals(0, streamService.subscriberCount());
+        sendGate.countDown();
+    }
+
+    @Test
+    void incidentsCreated_WhileChangeStreamActive_ShouldBeIgnored() throws Exception {
+        // Arrange
+        SseEmitter emitter = streamService.subscribe(null, null);
+        nextEvent(emitter);
+        streamService.changeStreamActive(true);
+
+        // Act
+        streamService.incidentsCreated(List.of(incident(AIIncident.Severity.LOW)));
+        streamService.incidentRemoved(new ObjectId());
+
+        // Assert
+        assertTrue(nextEvent(emitter).contains("event:deleted"));
+        assertNull(sent.get(emitter).poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribe_BeyondMaxSubscribers_ShouldThrowException() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            streamService.subscribe(null, null);
+        }
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> streamService.subscribe(null, null));
+    }
+
+    private IncidentStreamService newService(int bufferSize) {
+        return new IncidentStreamService(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                bufferSize, 16, 3, Duration.ofMinutes(1), Duration.ofHours(1), 2) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                SseEmitter emitter = new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        try {
+                            sendGate.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        sent.get(this).add(builder.build().stream()
+                                .map(data -> data.getData().toString())
+                                .collect(Collectors.joining()));
+                    }
+                };
+                sent.put(emitter, new LinkedBlockingQueue<>());
+                return emitter;
+            }
+        };
+    }
+
+    private String nextEvent(SseEmitter emitter) throws InterruptedException {
+        String event = sent.get(emitter).poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(event, "No event sent");
+        return event;
+    }
+
+    private static String idOf(String event) {
+        return event.lines()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring(3))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AIIncident incident(AIIncident.Severity severity) {
+        return new AIIncident(new ObjectId(), "Model drift", "Accuracy dropped", severity, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,120 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.config.MongoClientProperties;
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentVersion;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for IncidentVersionTracker
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentVersionTrackerTest {
+
+    private static final Duration TTL = Duration.ofSeconds(1);
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    @Test
+    void current_WithLocalSource_ShouldChangeOnEveryWriteWithoutQuerying() {
+        // Arrange
+        IncidentVersionTracker tracker = new IncidentVersionTracker(repository, "local",
+                new MongoClientProperties(), TTL);
+        IncidentVersion before = tracker.current();
+
+        // Act
+        tracker.incidentRemoved(new ObjectId());
+        IncidentVersion after = tracker.current();
+
+        // Assert
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(after.etag(), tracker.current().etag());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void current_WithLocalSource_ShouldChangeWhenIncidentsAreCountedAgain() {
+        // Arrange
+        IncidentVersionTracker tracker = new IncidentVersionTracker(repository, "local",
+                new MongoClientProperties(), TTL);
+        IncidentVersion before = tracker.current();
+
+        // Act
+        tracker.incidentsUpdated(List.of(new AIIncident()));
+        IncidentVersion afterLocalUpdate = tracker.current();
+        tracker.incidentUpdated(new ObjectId());
+        IncidentVersion afterStreamedUpdate = tracker.current();
+
+        // Assert
+        assertNotEquals(before.etag(), afterLocalUpdate.etag());
+        assertNotEquals(afterLocalUpdate.etag(), afterStreamedUpdate.etag());
+    }
+
+    @Test
+    void current_WithAutoSource_ShouldReadDatabaseUntilChangeStreamIsActive() {
+        // Arrange
+        IncidentVersionTracker tracker = new IncidentVersionTracker(repository, "auto",
+                new MongoClientProperties(), TTL);
+        when(repository.collectionVersion()).thenReturn("abc-3");
+
+        // Act
+        IncidentVersion fromDatabase = tracker.current();
+        tracker.changeStreamActive(true);
+        tracker.current();
+
+        // Assert
+        assertEquals("W/\"abc-3\"", fromDatabase.etag());
+        verify(repository, times(1)).collectionVersion();
+    }
+
+    @Test
+    void current_WithDatabaseSource_ShouldReuseTokenUntilThisNodeWrites() {
+        // Arrange
+        IncidentVersionTracker tracker = new IncidentVersionTracker(repository, "database",
+                new MongoClientProperties(), Duration.ofMinutes(1));
+        when(repository.collectionVersion()).thenReturn("abc-3", "abd-4");
+
+        // Act
+        IncidentVersion first = tracker.current();
+        IncidentVersion reused = tracker.current();
+        tracker.incidentsCreated(List.of(new AIIncident()));
+        IncidentVersion afterWrite = tracker.current();
+
+        // Assert
+        assertEquals(first.etag(), reused.etag());
+        assertEquals("W/\"abd-4\"", afterWrite.etag());
+        verify(repository, times(2)).collectionVersion();
+    }
+
+    @Test
+    void current_WithAutoSourceAndSecondaryListing_ShouldAlwaysReadDatabase() {
+        // Arrange
+        MongoClientProperties clientProperties = new MongoClientProperties();
+        clientProperties.setListingReadPreference("secondaryPreferred");
+        IncidentVersionTracker tracker = new IncidentVersionTracker(repository, "auto", clientProperties, TTL);
+        when(repository.collectionVersion()).thenReturn("abc-3");
+        tracker.changeStreamActive(true);
+
+        // Act
+        IncidentVersion version = tracker.current();
+
+        // Assert
+        assertEquals("W/\"abc-3\"", version.etag());
+        verify(repository).collectionVersion();
+    }
+}
@@ -0,0 +1,83 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.model.IncidentCursor;
+import com.humanchain.logs.model.IncidentFilter;
+import com.humanchain.logs.repository.ReactiveAIIncidentRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for ReactiveAIIncidentService
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveAIIncidentServiceTest {
+
+    @Mock
+    private ReactiveAIIncidentRepository repository;
+
+    @InjectMocks
+    private ReactiveAIIncidentService service;
+
+    private AIIncident testIncident;
+    private ObjectId testId;
+
+    @BeforeEach
+    void setUp() {
+        testId = new ObjectId();
+        testIncident = new AIIncident(testId, "Test Incident", "Test Description",
+                AIIncident.Severity.HIGH, LocalDateTime.now());
+    }
+
+    @Test
+    void getAllIncidents_WhenMoreAvailable_ShouldReturnCursorAfterLastItem() {
+        // Arrange
+        AIIncident older = new AIIncident(new ObjectId(), "Older", "Older Description",
+                AIIncident.Severity.LOW, testIncident.getReportedAt().minusMinutes(1));
+        IncidentFilter filter = IncidentFilter.none();
+        when(repository.findPage(filter, null, 2)).thenReturn(Flux.just(testIncident, older));
+
+        // Act & Assert
+        StepVerifier.create(service.getAllIncidents(filter, null, 1))
+                .assertNext(page -> {
+                    assertEquals(List.of(testIncident), page.getItems());
+                    assertEquals(IncidentCursor.after(testIncident), page.getNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllIncidents_WithMalformedCursor_ShouldError() {
+        StepVerifier.create(service.getAllIncidents(IncidentFilter.none(), "not-a-cursor", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deleteIncident_ShouldReportWhetherIncidentExisted() {
+        // Arrange
+        when(repository.removeById(testId)).thenReturn(Mono.just(1L), Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteIncident(testId)).expectNext(true).verifyComplete();
+        StepVerifier.create(service.deleteIncident(testId)).expectNext(false).verifyComplete();
+    }
+}
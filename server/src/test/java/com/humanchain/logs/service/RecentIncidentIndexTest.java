@@ -0,0 +1,147 @@
+package com.humanchain.logs.service;
+
+import com.humanchain.logs.model.AIIncident;
+import com.humanchain.logs.repository.AIIncidentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RecentIncidentIndex
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RecentIncidentIndexTest {
+
+    @Mock
+    private AIIncidentRepository repository;
+
+    private RecentIncidentIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecentIncidentIndex(repository, new SimpleMeterRegistry(), Duration.ofDays(7), 8, 100);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void search_ShouldMatchEveryTokenNewestFirst() {
+        // Arrange
+        AIIncident older = incident("Model drift detected", "Accuracy dropped", AIIncident.Severity.HIGH, 2);
+        AIIncident newer = incident("Drift in embeddings", "Model retrained", AIIncident.Severity.LOW, 1);
+        AIIncident other = incident("Prompt injection", "Jailbreak attempt", AIIncident.Severity.HIGH, 0);
+        index.incidentsCreated(List.of(older, newer, other));
+
+        // Act
+        List<AIIncident> result = index.search("model DRIFT", null, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(newer, older), result);
+    }
+
+    @Test
+    void search_ShouldApplySeverityAndTimeRange() {
+        // Arrange
+        AIIncident high = incident("Drift", "a", AIIncident.Severity.HIGH, 1);
+        AIIncident low = incident("Drift", "b", AIIncident.Severity.LOW, 1);
+        AIIncident old = incident("Drift", "c", AIIncident.Severity.HIGH, 48);
+        index.incidentsCreated(List.of(high, low, old));
+
+        // Act
+        List<AIIncident> result = index.search("drift", AIIncident.Severity.HIGH, now.minusDays(1), null, 10);
+
+        // Assert
+        assertEquals(List.of(high), result);
+    }
+
+    @Test
+    void incidentsCreated_ShouldIgnoreDuplicatesAndIncidentsOutsideWindow() {
+        // Arrange
+        AIIncident recent = incident("Drift", "a", AIIncident.Severity.HIGH, 1);
+        AIIncident expired = incident("Drift", "b", AIIncident.Severity.HIGH, 24 * 8);
+
+        // Act
+        index.incidentsCreated(List.of(recent, expired));
+        index.incidentsCreated(List.of(recent));
+
+        // Assert
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void incidentDeleted_ShouldRemoveFromResults() {
+        // Arrange
+        AIIncident incident = incident("Drift", "a", AIIncident.Severity.HIGH, 1);
+        index.incidentsCreated(List.of(incident));
+
+        // Act
+        index.incidentDeleted(incident);
+
+        // Assert
+        assertTrue(index.search("drift", null, null, null, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void incidentsCreated_WhenFull_ShouldEvictOldestAndKeepSearching() {
+        // Arrange
+        List<AIIncident> incidents = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            incidents.add(incident("Drift " + i, "shared token", AIIncident.Severity.MEDIUM, 12 - i));
+        }
+
+        // Act
+        index.incidentsCreated(incidents);
+
+        // Assert
+        assertTrue(index.size() <= 8);
+        List<AIIncident> result = index.search("shared", null, null, null, 20);
+        assertEquals(index.size(), result.size());
+        assertEquals(incidents.get(11), result.get(0));
+        assertTrue(index.estimatedMemoryBytes() > 0);
+    }
+
+    @Test
+    void incidentsCreated_WhenFullWithHole_ShouldFreeAQuarter() {
+        // Arrange
+        List<AIIncident> incidents = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            incidents.add(incident("Drift " + i, "shared token", AIIncident.Severity.MEDIUM, 8 - i));
+        }
+        index.incidentsCreated(incidents);
+        index.incidentDeleted(incidents.get(7));
+
+        // Act
+        index.incidentsCreated(List.of(incident("Drift 8", "shared token", AIIncident.Severity.MEDIUM, 0)));
+
+        // Assert
+        assertEquals(7, index.size());
+        List<AIIncident> result = index.search("shared", null, null, null, 20);
+        assertFalse(result.contains(incidents.get(0)));
+    }
+
+    @Test
+    void tokenize_ShouldLowerCaseAndDropShortTokens() {
+        // Act & Assert
+        assertEquals(Set.of("gpt", "model", "v2"), RecentIncidentIndex.tokenize("GPT-model: a v2!"));
+    }
+
+    private AIIncident incident(String title, String description, AIIncident.Severity severity, int hoursAgo) {
+        return new AIIncident(new ObjectId(), title, description, severity, now.minusHours(hoursAgo));
+    }
+}
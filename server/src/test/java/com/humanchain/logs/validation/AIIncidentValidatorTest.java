@@ -0,0 +1,65 @@
+package com.humanchain.logs.validation;
+
+import com.humanchain.logs.dto.AIIncidentCreateDTO;
+import com.humanchain.logs.model.AIIncident;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AIIncidentValidator
+ *
+ * @author Vikas Singh
+ * @since 1.0
+ */
+class AIIncidentValidatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AIIncidentValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        validator = new AIIncidentValidator(meterRegistry);
+    }
+
+    @Test
+    void validate_WithMissingTitle_ShouldCountFailureOfThatRule() {
+        // Arrange
+        AIIncidentCreateDTO dto = new AIIncidentCreateDTO();
+        dto.setDescription("Accuracy dropped");
+        dto.setSeverity(AIIncident.Severity.HIGH);
+
+        // Act
+        AIIncidentValidator.ValidationResult result = validator.validate(dto);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(1.0, failures("title_required"));
+        assertEquals(0.0, failures("severity_required"));
+    }
+
+    @Test
+    void validate_WithValidIncident_ShouldNotCountFailures() {
+        // Arrange
+        AIIncidentCreateDTO dto = new AIIncidentCreateDTO();
+        dto.setTitle("Model drift");
+        dto.setDescription("Accuracy dropped");
+        dto.setSeverity(AIIncident.Severity.LOW);
+
+        // Act
+        AIIncidentValidator.ValidationResult result = validator.validate(dto);
+
+        // Assert
+        assertTrue(result.isValid());
+        assertEquals(0.0, meterRegistry.find("incidents.validation.failures").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum());
+    }
+
+    private double failures(String rule) {
+        return meterRegistry.get("incidents.validation.failures").tag("rule", rule).counter().count();
+    }
+}